@@ -0,0 +1,113 @@
+package kr.co.dataric.chatapi.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.co.dataric.chatapi.config.websocket.InboundFrameProperties;
+import kr.co.dataric.chatapi.config.websocket.codec.FrameCodecRegistry;
+import kr.co.dataric.chatapi.config.websocket.codec.WireFormat;
+import kr.co.dataric.chatapi.dto.response.ws.ReadListFrame;
+import kr.co.dataric.chatapi.handler.codec.ChatFrameDecoder;
+import kr.co.dataric.chatapi.handler.codec.InboundChatFrame;
+import kr.co.dataric.common.dto.ChatMessageDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 프레임 JSON / CBOR 비교
+ * - 송신 : ChatMessageDTO, readList 프레임 인코딩
+ * - 수신 : /ws/chat 프레임 streaming 디코딩
+ * - 프레임 크기는 setup 에서 출력 (형식별 bytes)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FrameCodecBenchmark {
+	
+	@Param({"JSON", "CBOR"})
+	private WireFormat format;
+	
+	private FrameCodecRegistry codecs;
+	private ChatFrameDecoder decoder;
+	private ChatMessageDTO chatMessage;
+	private ReadListFrame readList;
+	private byte[] inboundPayload;
+	private InboundChatFrame inbound;
+	
+	@Setup
+	public void setup() throws Exception {
+		ObjectMapper objectMapper = JsonMapper.builder()
+			.addModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+		codecs = new FrameCodecRegistry(objectMapper);
+		decoder = new ChatFrameDecoder(new InboundFrameProperties());
+		inbound = new InboundChatFrame();
+		
+		List<String> participants = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			participants.add("user" + i);
+		}
+		
+		chatMessage = ChatMessageDTO.builder()
+			.id("c0a8012e-7b1f-4d4e-9a55-3f1c2e8d9b10")
+			.roomId("room-1024")
+			.sender("user7")
+			.message("오늘 회의는 3시에 시작합니다. 자료는 미리 공유드릴게요.")
+			.timestamp(LocalDateTime.now())
+			.participants(participants)
+			.build();
+		
+		List<Map<String, String>> entries = new ArrayList<>();
+		for (String userId : participants) {
+			entries.add(Map.of("userId", userId, "msgId", chatMessage.getId(), "timestamp", chatMessage.getTimestamp().toString()));
+		}
+		readList = ReadListFrame.of("room-1024", entries, false);
+		
+		ObjectMapper inboundMapper = format == WireFormat.CBOR
+			? objectMapper.copyWith(new CBORFactory())
+			: objectMapper;
+		inboundPayload = inboundMapper.writeValueAsBytes(Map.of(
+			"msgId", chatMessage.getId(),
+			"message", chatMessage.getMessage(),
+			"participants", participants,
+			"isNewRoomMsg", false
+		));
+		
+		System.out.printf("%n[%s] chat=%d bytes, readList(50)=%d bytes, inbound=%d bytes%n", format,
+			codecs.encode(chatMessage, format).length, codecs.encode(readList, format).length, inboundPayload.length);
+	}
+	
+	@Benchmark
+	public byte[] encodeChatMessage() {
+		return codecs.encode(chatMessage, format);
+	}
+	
+	@Benchmark
+	public byte[] encodeReadList() {
+		return codecs.encode(readList, format);
+	}
+	
+	@Benchmark
+	public InboundChatFrame decodeInbound() throws Exception {
+		DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(inboundPayload);
+		decoder.decode(buffer, inbound, format);
+		return inbound;
+	}
+}
@@ -0,0 +1,302 @@
+package kr.co.dataric.chatapi.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.dataric.common.dto.ChatMessageDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * 방별 최근 메시지 링 버퍼
+ * - 전송 시 채워지고, 입장 시 초기 메시지 / 첫 페이지 히스토리를 Mongo 없이 응답
+ * - 아직 Kafka → Mongo 저장 전인 메시지도 포함 (보낸 직후 조회해도 본인 메시지 보임)
+ * - 전체 메모리 예산 초과 시 LRU, 일정 시간 미접근 시 idle 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentMessageCache {
+	
+	// seq 순 (seq 없는 기존 메시지가 앞), 같으면 timestamp
+	private static final Comparator<ChatMessageDTO> BY_SEQ =
+		Comparator.comparing(ChatMessageDTO::getSeq, Comparator.nullsFirst(Comparator.naturalOrder()))
+			.thenComparing(ChatMessageDTO::getTimestamp, Comparator.nullsFirst(Comparator.naturalOrder()));
+	
+	private final RecentMessageProperties properties;
+	
+	private final Map<String, RoomRing> rings = new ConcurrentHashMap<>();
+	private final AtomicLong totalBytes = new AtomicLong();
+	private final AtomicBoolean evicting = new AtomicBoolean();
+	
+	private Disposable sweeper;
+	
+	@PostConstruct
+	public void start() {
+		sweeper = Flux.interval(properties.getSweepInterval())
+			.subscribe(tick -> sweep());
+	}
+	
+	@PreDestroy
+	public void stop() {
+		if (sweeper != null) {
+			sweeper.dispose();
+		}
+	}
+	
+	/**
+	 * ✅ 전송된 메시지 적재
+	 */
+	public void append(ChatMessageDTO message) {
+		String roomId = message.getRoomId();
+		while (true) {
+			RoomRing ring = rings.computeIfAbsent(roomId, key -> new RoomRing(properties.getCapacityPerRoom()));
+			long delta = ring.add(message);
+			if (delta >= 0) {
+				totalBytes.addAndGet(delta);
+				break;
+			}
+			rings.remove(roomId, ring); // 방금 제거된 링 → 새로 생성 후 재시도
+		}
+		
+		if (totalBytes.get() > properties.getMaxMemory().toBytes()) {
+			evictOverBudget();
+		}
+	}
+	
+	/**
+	 * ✅ 방 링 버퍼 무효화 (다음 조회 시 DB 에서 다시 채움)
+	 */
+	public void invalidate(String roomId) {
+		RoomRing ring = rings.get(roomId);
+		if (ring != null) {
+			evict(roomId, ring);
+		}
+	}
+	
+	/**
+	 * ✅ 조건에 맞는 방 링 버퍼 모두 무효화 (담당 노드 변경 등)
+	 */
+	public void invalidateIf(Predicate<String> filter) {
+		rings.forEach((roomId, ring) -> {
+			if (filter.test(roomId)) {
+				evict(roomId, ring);
+			}
+		});
+	}
+	
+	/**
+	 * ✅ 최근 메시지 조회 (오래된순)
+	 * - 링이 DB 기준으로 채워져 있으면 메모리에서 응답
+	 * - 아니면 loader(최신순 조회)로 채운 뒤 미저장 메시지와 병합
+	 */
+	public Mono<List<ChatMessageDTO>> recent(String roomId, int size, IntFunction<Flux<ChatMessageDTO>> loader) {
+		int capacity = properties.getCapacityPerRoom();
+		if (size > capacity) {
+			return loader.apply(size)
+				.collectList()
+				.map(list -> {
+					list.sort(BY_SEQ);
+					return list;
+				});
+		}
+		
+		RoomRing ring = rings.get(roomId);
+		if (ring != null && ring.canServe(size)) {
+			return Mono.just(ring.snapshot(size));
+		}
+		
+		return loader.apply(capacity)
+			.collectList()
+			.map(fromDb -> {
+				while (true) {
+					RoomRing target = rings.computeIfAbsent(roomId, key -> new RoomRing(capacity));
+					long delta = target.seed(fromDb, fromDb.size() < capacity);
+					if (delta != Long.MIN_VALUE) {
+						totalBytes.addAndGet(delta);
+						return target.snapshot(size);
+					}
+					rings.remove(roomId, target);
+				}
+			});
+	}
+	
+	private void sweep() {
+		long idleNanos = properties.getIdleTimeout().toNanos();
+		long now = System.nanoTime();
+		rings.forEach((roomId, ring) -> {
+			if (now - ring.lastAccess > idleNanos) {
+				evict(roomId, ring);
+			}
+		});
+		
+		if (totalBytes.get() > properties.getMaxMemory().toBytes()) {
+			evictOverBudget();
+		}
+	}
+	
+	private void evictOverBudget() {
+		if (!evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			// 예산의 90% 까지 줄여서 매 append 마다 정렬하지 않도록 함
+			long target = properties.getMaxMemory().toBytes() * 9 / 10;
+			List<Map.Entry<String, RoomRing>> lru = new ArrayList<>(rings.entrySet());
+			lru.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+			
+			int evicted = 0;
+			for (Map.Entry<String, RoomRing> entry : lru) {
+				if (totalBytes.get() <= target) {
+					break;
+				}
+				evict(entry.getKey(), entry.getValue());
+				evicted++;
+			}
+			log.info("🧹 최근 메시지 캐시 예산 초과 - LRU 방 {}개 제거, 사용량: {} bytes", evicted, totalBytes.get());
+		} finally {
+			evicting.set(false);
+		}
+	}
+	
+	private void evict(String roomId, RoomRing ring) {
+		if (rings.remove(roomId, ring)) {
+			totalBytes.addAndGet(-ring.evict());
+		}
+	}
+	
+	private static int estimate(ChatMessageDTO m) {
+		int chars = length(m.getId()) + length(m.getRoomId()) + length(m.getSender()) + length(m.getMessage());
+		if (m.getParticipants() != null) {
+			for (String p : m.getParticipants()) {
+				chars += length(p) + 8;
+			}
+		}
+		return 96 + chars * 2;
+	}
+	
+	private static int length(String s) {
+		return s != null ? s.length() : 0;
+	}
+	
+	/**
+	 * 방 하나의 고정 크기 링 (메서드 단위 동기화, 방 간 경합 없음)
+	 */
+	private static final class RoomRing {
+		
+		private final ChatMessageDTO[] buffer;
+		private final int[] sizes;
+		private int head;
+		private int count;
+		private long bytes;
+		private boolean seeded;    // DB 최신 메시지로 채워졌는지
+		private boolean complete;  // 방 전체 메시지가 링 안에 있는지
+		private boolean evicted;
+		private volatile long lastAccess = System.nanoTime();
+		
+		RoomRing(int capacity) {
+			this.buffer = new ChatMessageDTO[capacity];
+			this.sizes = new int[capacity];
+		}
+		
+		/** 추가된 바이트 수 (제거된 링이면 -1) */
+		synchronized long add(ChatMessageDTO message) {
+			if (evicted) {
+				return -1;
+			}
+			lastAccess = System.nanoTime();
+			if (indexOf(message.getId()) >= 0) {
+				return 0;
+			}
+			return put(message);
+		}
+		
+		/** DB 조회 결과와 현재 링 병합 (제거된 링이면 Long.MIN_VALUE) */
+		synchronized long seed(List<ChatMessageDTO> fromDb, boolean wholeRoom) {
+			if (evicted) {
+				return Long.MIN_VALUE;
+			}
+			lastAccess = System.nanoTime();
+			
+			Map<String, ChatMessageDTO> merged = new LinkedHashMap<>();
+			fromDb.forEach(m -> merged.put(m.getId(), m));
+			snapshot(count).forEach(m -> merged.putIfAbsent(m.getId(), m));
+			
+			List<ChatMessageDTO> ordered = new ArrayList<>(merged.values());
+			ordered.sort(BY_SEQ);
+			
+			long before = bytes;
+			head = 0;
+			count = 0;
+			bytes = 0;
+			for (int i = Math.max(0, ordered.size() - buffer.length); i < ordered.size(); i++) {
+				put(ordered.get(i));
+			}
+			seeded = true;
+			complete = wholeRoom;
+			return bytes - before;
+		}
+		
+		synchronized boolean canServe(int size) {
+			lastAccess = System.nanoTime();
+			return seeded && (count >= size || complete);
+		}
+		
+		/** 최근 size 개 (오래된순) */
+		synchronized List<ChatMessageDTO> snapshot(int size) {
+			int n = Math.min(size, count);
+			List<ChatMessageDTO> result = new ArrayList<>(n);
+			for (int i = n; i > 0; i--) {
+				result.add(buffer[Math.floorMod(head - i, buffer.length)]);
+			}
+			return result;
+		}
+		
+		synchronized long evict() {
+			evicted = true;
+			return bytes;
+		}
+		
+		private long put(ChatMessageDTO message) {
+			int size = estimate(message);
+			long delta = size;
+			if (count == buffer.length) {
+				delta -= sizes[head];
+			} else {
+				count++;
+			}
+			buffer[head] = message;
+			sizes[head] = size;
+			head = (head + 1) % buffer.length;
+			bytes += delta;
+			return delta;
+		}
+		
+		private int indexOf(String msgId) {
+			if (msgId == null) {
+				return -1;
+			}
+			for (int i = 1; i <= count; i++) {
+				int idx = Math.floorMod(head - i, buffer.length);
+				if (msgId.equals(buffer[idx].getId())) {
+					return idx;
+				}
+			}
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package kr.co.dataric.chatapi.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.recent")
+public class RecentMessageProperties {
+	private int capacityPerRoom = 50;                         // 방별 보관 메시지 수
+	private DataSize maxMemory = DataSize.ofMegabytes(64);    // 전체 방 합산 메모리 예산 (추정치)
+	private Duration idleTimeout = Duration.ofMinutes(30);    // 접근 없는 방 제거 기준
+	private Duration sweepInterval = Duration.ofMinutes(1);   // idle / 예산 점검 주기
+}
@@ -0,0 +1,301 @@
+package kr.co.dataric.chatapi.cache;
+
+import kr.co.dataric.chatapi.config.read.ReadReceiptProperties;
+import kr.co.dataric.chatapi.config.sink.StatusSinkManager;
+import kr.co.dataric.chatapi.repository.chat.CustomChatMessageRepository;
+import kr.co.dataric.chatapi.repository.room.CustomChatRoomRepository;
+import kr.co.dataric.chatapi.service.impl.LastReadStore;
+import kr.co.dataric.common.dto.ChatMessageDTO;
+import kr.co.dataric.common.dto.LastReadMarker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 방별 멤버 읽음 위치 정렬 인덱스 → 메시지별 안 읽은 인원 수
+ * - 멤버 위치(읽은 메시지 seq)를 순위 트리(subtree 크기를 가진 treap)로 유지 → 조회 / 이동 모두 O(log n)
+ * - seq 없는 기존 읽음 위치는 로드 시 그 시각 이전 마지막 메시지 seq 로 변환 (seq 없는 기존 메시지는 계산하지 않음)
+ * - 읽음 이벤트마다 해당 멤버 위치만 이동 (전체 재계산 없음)
+ * - 방을 처음 조회할 때 참여자 목록 + last-read hash 로 생성, maxRooms 초과 시 LRU 제거
+ * - 읽음 이벤트는 방 채널 구독 중(로컬 /ws/rs 세션 있음)에만 들어오므로 그 동안은 계속 유지
+ * - 구독 없는 방은 unreadIndexIdleTtl 동안만 재사용 (history / 입장마다 Mongo / Redis 재조회 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountIndex {
+	
+	private static final long NEVER_READ = Long.MIN_VALUE;
+	private static final int LEGACY_RESOLVE_CONCURRENCY = 8;
+	
+	private final LastReadStore lastReadStore;
+	private final CustomChatRoomRepository customChatRoomRepository;
+	private final CustomChatMessageRepository customChatMessageRepository;
+	private final ReadReceiptProperties readReceiptProperties;
+	private final StatusSinkManager statusSinkManager;
+	
+	private final Map<String, RoomReadIndex> indexes = Collections.synchronizedMap(
+		new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, RoomReadIndex> eldest) {
+				return size() > readReceiptProperties.getUnreadIndexMaxRooms();
+			}
+		});
+	
+	/**
+	 * ✅ 메시지 목록에 안 읽은 인원 수(unreadCount) 부여 (원본 DTO 는 변경하지 않음)
+	 */
+	public Mono<List<ChatMessageDTO>> annotate(String roomId, List<ChatMessageDTO> messages) {
+		if (messages.isEmpty()) {
+			return Mono.just(messages);
+		}
+		
+		return getOrLoad(roomId)
+			.map(index -> messages.stream()
+				.map(msg -> msg.getSeq() != null
+					? msg.withUnreadCount(index.unreadCount(msg.getSeq(), msg.getSender()))
+					: msg)
+				.toList())
+			.onErrorResume(e -> {
+				log.warn("❗ 안 읽은 인원 계산 실패 - roomId: {}, error: {}", roomId, e.toString());
+				return Mono.just(messages);
+			});
+	}
+	
+	/**
+	 * ✅ 읽음 이벤트 반영 (인덱스가 만들어진 방만)
+	 */
+	public void onRead(String roomId, String userId, LastReadMarker marker) {
+		RoomReadIndex index = indexes.get(roomId);
+		if (index == null || marker == null) {
+			return;
+		}
+		if (marker.hasSeq()) {
+			index.update(userId, marker.getSeq());
+			return;
+		}
+		// seq 없는 읽음 이벤트 (기존 클라이언트) → 시각 기준으로 변환 후 반영
+		resolveSeq(roomId, marker)
+			.subscribe(seq -> index.update(userId, seq), e -> log.debug("❗ 읽음 위치 seq 변환 실패 - roomId: {}, error: {}", roomId, e.toString()));
+	}
+	
+	/**
+	 * ✅ 방 인덱스 제거 (방 채널 구독 해제 시)
+	 */
+	public void evict(String roomId) {
+		indexes.remove(roomId);
+	}
+	
+	private Mono<RoomReadIndex> getOrLoad(String roomId) {
+		RoomReadIndex cached = indexes.get(roomId);
+		if (cached != null && (cached.live || System.nanoTime() - cached.loadedAt < readReceiptProperties.getUnreadIndexIdleTtl().toNanos())) {
+			return Mono.just(cached);
+		}
+		
+		Mono<Map<String, Long>> readSeqs = lastReadStore.getAll(roomId)
+			.flatMapMany(markers -> Flux.fromIterable(markers.entrySet()))
+			.flatMap(entry -> resolveSeq(roomId, entry.getValue()).map(seq -> Map.entry(entry.getKey(), seq)), LEGACY_RESOLVE_CONCURRENCY)
+			.collectMap(Map.Entry::getKey, Map.Entry::getValue);
+		
+		return Mono.zip(customChatRoomRepository.findParticipants(roomId), readSeqs)
+			.map(tuple -> {
+				RoomReadIndex index = new RoomReadIndex(tuple.getT1(), tuple.getT2(), statusSinkManager.hasRoom(roomId));
+				// 구독 중 인덱스(읽음 이벤트 반영 중)는 새로 만든 것으로 덮어쓰지 않음
+				RoomReadIndex current = indexes.merge(roomId, index, (existing, loaded) -> existing.live ? existing : loaded);
+				return current.live ? current : index;
+			});
+	}
+	
+	// 읽음 위치 → seq (seq 없는 기존 값은 그 시각 이전 마지막 메시지 seq, 없으면 empty)
+	private Mono<Long> resolveSeq(String roomId, LastReadMarker marker) {
+		if (marker.hasSeq()) {
+			return Mono.just(marker.getSeq());
+		}
+		return customChatMessageRepository.findLastSeqAtOrBefore(roomId, marker.getTimestamp());
+	}
+	
+	/**
+	 * 방 하나의 멤버별 읽음 위치 (순위 트리 + 멤버 map)
+	 * - live : 구독 중에 만들어져 읽음 이벤트를 계속 반영하는 인덱스
+	 */
+	private static final class RoomReadIndex {
+		
+		private final Map<String, Long> positions = new HashMap<>();
+		private final PositionTree tree = new PositionTree();
+		private final boolean live;
+		private final long loadedAt = System.nanoTime();
+		
+		RoomReadIndex(Collection<String> participants, Map<String, Long> readSeqs, boolean live) {
+			this.live = live;
+			participants.forEach(userId -> positions.put(userId, NEVER_READ));
+			positions.putAll(readSeqs);
+			positions.values().forEach(tree::insert);
+		}
+		
+		/**
+		 * 멤버 위치 이동 (앞으로만, 새 멤버는 추가)
+		 */
+		synchronized void update(String userId, long position) {
+			Long previous = positions.get(userId);
+			if (previous != null && position <= previous) {
+				return;
+			}
+			
+			if (previous != null) {
+				tree.remove(previous);
+			}
+			tree.insert(position);
+			positions.put(userId, position);
+		}
+		
+		/**
+		 * 메시지 seq 보다 앞에 있는 멤버 수 (보낸 사람 제외)
+		 */
+		synchronized int unreadCount(long messagePosition, String sender) {
+			int count = tree.countLess(messagePosition);
+			Long senderPosition = sender != null ? positions.get(sender) : null;
+			if (senderPosition != null && senderPosition < messagePosition) {
+				count--;
+			}
+			return Math.max(count, 0);
+		}
+	}
+	
+	/**
+	 * 위치 multiset (treap, 같은 위치는 count 로 묶음)
+	 * - 각 노드가 subtree 원소 수를 가져 "value 미만 원소 수" 를 한 번의 경로 탐색으로 계산
+	 * - 호출자(RoomReadIndex) 가 동기화
+	 */
+	private static final class PositionTree {
+		
+		private Node root;
+		
+		void insert(long value) {
+			root = insert(root, value);
+		}
+		
+		void remove(long value) {
+			root = remove(root, value);
+		}
+		
+		// value 미만 원소 개수
+		int countLess(long value) {
+			int count = 0;
+			Node node = root;
+			while (node != null) {
+				if (value <= node.value) {
+					node = node.left;
+				} else {
+					count += size(node.left) + node.count;
+					node = node.right;
+				}
+			}
+			return count;
+		}
+		
+		private static Node insert(Node node, long value) {
+			if (node == null) {
+				return new Node(value);
+			}
+			if (value == node.value) {
+				node.count++;
+			} else if (value < node.value) {
+				node.left = insert(node.left, value);
+				if (node.left.priority > node.priority) {
+					node = rotateRight(node);
+				}
+			} else {
+				node.right = insert(node.right, value);
+				if (node.right.priority > node.priority) {
+					node = rotateLeft(node);
+				}
+			}
+			node.resize();
+			return node;
+		}
+		
+		private static Node remove(Node node, long value) {
+			if (node == null) {
+				return null;
+			}
+			if (value < node.value) {
+				node.left = remove(node.left, value);
+			} else if (value > node.value) {
+				node.right = remove(node.right, value);
+			} else if (node.count > 1) {
+				node.count--;
+			} else {
+				return merge(node.left, node.right);
+			}
+			node.resize();
+			return node;
+		}
+		
+		// left 의 모든 값 < right 의 모든 값
+		private static Node merge(Node left, Node right) {
+			if (left == null) {
+				return right;
+			}
+			if (right == null) {
+				return left;
+			}
+			if (left.priority > right.priority) {
+				left.right = merge(left.right, right);
+				left.resize();
+				return left;
+			}
+			right.left = merge(left, right.left);
+			right.resize();
+			return right;
+		}
+		
+		private static Node rotateRight(Node node) {
+			Node top = node.left;
+			node.left = top.right;
+			top.right = node;
+			node.resize();
+			top.resize();
+			return top;
+		}
+		
+		private static Node rotateLeft(Node node) {
+			Node top = node.right;
+			node.right = top.left;
+			top.left = node;
+			node.resize();
+			top.resize();
+			return top;
+		}
+		
+		private static int size(Node node) {
+			return node != null ? node.size : 0;
+		}
+		
+		private static final class Node {
+			private final long value;
+			private final int priority = ThreadLocalRandom.current().nextInt();
+			private int count = 1;
+			private int size = 1;
+			private Node left;
+			private Node right;
+			
+			Node(long value) {
+				this.value = value;
+			}
+			
+			void resize() {
+				size = size(left) + count + size(right);
+			}
+		}
+	}
+}
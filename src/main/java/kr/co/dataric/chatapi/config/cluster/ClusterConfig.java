@@ -0,0 +1,17 @@
+package kr.co.dataric.chatapi.config.cluster;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+@Configuration
+public class ClusterConfig {
+	
+	@Bean
+	public ClusterMembership clusterMembership(ClusterProperties clusterProperties, ReactiveStringRedisTemplate redisTemplate) {
+		return switch (clusterProperties.getMembership()) {
+			case MEMORY -> new InMemoryClusterMembership();
+			case REDIS -> new RedisClusterMembership(redisTemplate, clusterProperties.getMemberTtl());
+		};
+	}
+}
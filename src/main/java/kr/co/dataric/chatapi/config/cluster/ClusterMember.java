@@ -0,0 +1,9 @@
+package kr.co.dataric.chatapi.config.cluster;
+
+import lombok.Value;
+
+@Value
+public class ClusterMember {
+	String nodeId;
+	String address;
+}
@@ -0,0 +1,14 @@
+package kr.co.dataric.chatapi.config.cluster;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 클러스터 노드 목록 저장소
+ */
+public interface ClusterMembership {
+	Mono<Void> heartbeat(ClusterMember self);
+	Mono<List<ClusterMember>> members();
+	Mono<Void> leave(String nodeId);
+}
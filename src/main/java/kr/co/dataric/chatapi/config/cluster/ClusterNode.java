@@ -0,0 +1,48 @@
+package kr.co.dataric.chatapi.config.cluster;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 현재 ChatApiServer 노드 식별자 (기동 시 1회 결정)
+ * - 미설정 시 POD_NAME 환경 변수 → hostname (재시작해도 같은 값 → fan-out consumer group 유지)
+ * - 같은 호스트에서 여러 노드를 띄우면 chat.cluster.node-id 를 각각 지정
+ */
+@Slf4j
+@Getter
+@Component
+public class ClusterNode {
+	
+	private final String nodeId;
+	private final byte[] nodeIdBytes;
+	
+	public ClusterNode(ClusterProperties clusterProperties) {
+		this.nodeId = StringUtils.hasText(clusterProperties.getNodeId())
+			? clusterProperties.getNodeId()
+			: defaultNodeId();
+		this.nodeIdBytes = nodeId.getBytes(StandardCharsets.UTF_8);
+		log.info("✅ ChatApiServer nodeId: {}", nodeId);
+	}
+	
+	public boolean isSelf(byte[] value) {
+		return value != null && nodeId.equals(new String(value, StandardCharsets.UTF_8));
+	}
+	
+	private static String defaultNodeId() {
+		String podName = System.getenv("POD_NAME");
+		return StringUtils.hasText(podName) ? podName : hostName();
+	}
+	
+	private static String hostName() {
+		try {
+			return InetAddress.getLocalHost().getHostName();
+		} catch (Exception e) {
+			return "chat-api";
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package kr.co.dataric.chatapi.config.cluster;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.cluster")
+public class ClusterProperties {
+	
+	public enum Mode {
+		BROADCAST,  // 모든 노드가 Kafka 로 전체 메시지 수신 후 로컬 세션에 전달
+		AFFINITY    // consistent hash 로 방마다 담당 노드 1개 지정
+	}
+	
+	public enum MembershipStore {
+		REDIS,
+		MEMORY      // 단일 JVM / 테스트용
+	}
+	
+	private String nodeId;                                  // 미설정 시 POD_NAME → hostname (재시작해도 유지)
+	private Mode mode = Mode.BROADCAST;
+	private String advertiseAddress;                        // 다른 노드가 redirect 할 주소 (ex. ws://10.0.0.5:8081)
+	private int virtualNodes = 128;                         // 노드당 가상 노드 수
+	private MembershipStore membership = MembershipStore.REDIS;
+	private Duration heartbeatInterval = Duration.ofSeconds(5);
+	private Duration memberTtl = Duration.ofSeconds(15);    // heartbeat 가 이 시간 이상 없으면 제외
+}
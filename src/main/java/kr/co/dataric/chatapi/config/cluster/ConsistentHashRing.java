@@ -0,0 +1,57 @@
+package kr.co.dataric.chatapi.config.cluster;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 가상 노드 기반 consistent hash ring (불변 객체, 멤버 변경 시 새로 생성)
+ * - 노드 추가/제거 시 약 1/N 의 방만 담당 노드가 바뀜
+ */
+public final class ConsistentHashRing {
+	
+	private final NavigableMap<Long, ClusterMember> ring;
+	
+	private ConsistentHashRing(NavigableMap<Long, ClusterMember> ring) {
+		this.ring = ring;
+	}
+	
+	public static ConsistentHashRing of(Collection<ClusterMember> members, int virtualNodes) {
+		TreeMap<Long, ClusterMember> ring = new TreeMap<>();
+		for (ClusterMember member : members) {
+			for (int i = 0; i < virtualNodes; i++) {
+				ring.put(hash(member.getNodeId() + "#" + i), member);
+			}
+		}
+		return new ConsistentHashRing(ring);
+	}
+	
+	public static ConsistentHashRing empty() {
+		return new ConsistentHashRing(new TreeMap<>());
+	}
+	
+	/**
+	 * ✅ roomId 담당 노드 (멤버가 없으면 null)
+	 */
+	public ClusterMember ownerOf(String roomId) {
+		if (ring.isEmpty()) {
+			return null;
+		}
+		Map.Entry<Long, ClusterMember> entry = ring.ceilingEntry(hash(roomId));
+		return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+	}
+	
+	private static long hash(String key) {
+		try {
+			byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+			return ByteBuffer.wrap(digest).getLong();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("MD5 미지원 JVM", e);
+		}
+	}
+}
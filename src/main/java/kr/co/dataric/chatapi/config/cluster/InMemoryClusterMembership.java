@@ -0,0 +1,33 @@
+package kr.co.dataric.chatapi.config.cluster;
+
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 JVM 용 노드 목록 (로컬 실행 / 테스트 대체 구현)
+ */
+public class InMemoryClusterMembership implements ClusterMembership {
+	
+	private final Map<String, ClusterMember> members = new ConcurrentHashMap<>();
+	
+	@Override
+	public Mono<Void> heartbeat(ClusterMember self) {
+		members.put(self.getNodeId(), self);
+		return Mono.empty();
+	}
+	
+	@Override
+	public Mono<List<ClusterMember>> members() {
+		return Mono.just(new ArrayList<>(members.values()));
+	}
+	
+	@Override
+	public Mono<Void> leave(String nodeId) {
+		members.remove(nodeId);
+		return Mono.empty();
+	}
+}
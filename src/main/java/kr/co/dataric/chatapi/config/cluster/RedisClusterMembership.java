@@ -0,0 +1,65 @@
+package kr.co.dataric.chatapi.config.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis hash 기반 노드 목록
+ * - chat:cluster:members { nodeId -> "address|lastSeenMillis" } (주소 없으면 빈 문자열)
+ * - 형식이 깨진 항목은 건너뜀 (목록 갱신 전체를 실패시키지 않음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisClusterMembership implements ClusterMembership {
+	
+	private static final String MEMBERS_KEY = "chat:cluster:members";
+	
+	private final ReactiveStringRedisTemplate redisTemplate;
+	private final Duration memberTtl;
+	
+	@Override
+	public Mono<Void> heartbeat(ClusterMember self) {
+		String address = self.getAddress() != null ? self.getAddress() : "";
+		String value = address + "|" + System.currentTimeMillis();
+		return redisTemplate.opsForHash().put(MEMBERS_KEY, self.getNodeId(), value).then();
+	}
+	
+	@Override
+	public Mono<List<ClusterMember>> members() {
+		long expiredBefore = System.currentTimeMillis() - memberTtl.toMillis();
+		
+		return redisTemplate.<String, String>opsForHash().entries(MEMBERS_KEY)
+			.flatMap(entry -> {
+				String value = entry.getValue();
+				int sep = value.lastIndexOf('|');
+				long lastSeen;
+				try {
+					lastSeen = sep >= 0 ? Long.parseLong(value.substring(sep + 1)) : 0L;
+				} catch (NumberFormatException e) {
+					log.warn("❗ 잘못된 클러스터 멤버 항목 건너뜀 - nodeId: {}, value: {}", entry.getKey(), value);
+					return Mono.<ClusterMember>empty();
+				}
+				if (lastSeen < expiredBefore) {
+					log.info("🧹 heartbeat 만료 노드 제거: {}", entry.getKey());
+					return redisTemplate.opsForHash().remove(MEMBERS_KEY, entry.getKey()).then(Mono.<ClusterMember>empty());
+				}
+				return Mono.just(new ClusterMember(entry.getKey(), parseAddress(value.substring(0, sep))));
+			})
+			.collectList();
+	}
+	
+	// 빈 값 / 이전 버전이 기록한 "null" → 주소 없음
+	private static String parseAddress(String address) {
+		return address.isEmpty() || "null".equals(address) ? null : address;
+	}
+	
+	@Override
+	public Mono<Void> leave(String nodeId) {
+		return redisTemplate.opsForHash().remove(MEMBERS_KEY, nodeId).then();
+	}
+}
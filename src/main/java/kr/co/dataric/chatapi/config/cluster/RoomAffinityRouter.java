@@ -0,0 +1,111 @@
+package kr.co.dataric.chatapi.config.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * AFFINITY 모드에서 방 → 담당 노드 결정
+ * - heartbeat 주기마다 자신을 등록하고 멤버 목록이 바뀌면 ring 재생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomAffinityRouter {
+	
+	private final ClusterProperties clusterProperties;
+	private final ClusterNode clusterNode;
+	private final ClusterMembership clusterMembership;
+	
+	private volatile ConsistentHashRing ring = ConsistentHashRing.empty();
+	private volatile List<ClusterMember> currentMembers = List.of();
+	private final List<Runnable> ringListeners = new CopyOnWriteArrayList<>();
+	private Disposable heartbeat;
+	
+	@PostConstruct
+	public void start() {
+		if (!isAffinityMode()) {
+			return;
+		}
+		// 주소 없이 ring 에 들어가면 다른 노드가 이 노드 담당 방을 redirect 할 수 없음
+		if (!StringUtils.hasText(clusterProperties.getAdvertiseAddress())) {
+			throw new IllegalStateException("AFFINITY 모드에는 chat.cluster.advertise-address 설정이 필요합니다");
+		}
+		
+		ClusterMember self = new ClusterMember(clusterNode.getNodeId(), clusterProperties.getAdvertiseAddress());
+		heartbeat = Flux.interval(Duration.ZERO, clusterProperties.getHeartbeatInterval())
+			.concatMap(tick -> clusterMembership.heartbeat(self)
+				.then(clusterMembership.members())
+				.doOnNext(this::refresh)
+				.onErrorResume(e -> {
+					log.warn("❗ 클러스터 멤버 갱신 실패: {}", e.toString());
+					return Mono.empty();
+				}))
+			.subscribe();
+	}
+	
+	@PreDestroy
+	public void stop() {
+		if (heartbeat == null) {
+			return;
+		}
+		heartbeat.dispose();
+		try {
+			clusterMembership.leave(clusterNode.getNodeId()).block(Duration.ofSeconds(2));
+		} catch (Exception e) {
+			log.warn("❗ 클러스터 탈퇴 처리 실패: {}", e.toString());
+		}
+	}
+	
+	public boolean isAffinityMode() {
+		return clusterProperties.getMode() == ClusterProperties.Mode.AFFINITY;
+	}
+	
+	/**
+	 * ring 이 바뀔 때마다 호출 (담당 방이 바뀌었을 수 있음)
+	 */
+	public void addRingListener(Runnable listener) {
+		ringListeners.add(listener);
+	}
+	
+	/**
+	 * ✅ 방 담당 노드 (AFFINITY 모드가 아니거나 멤버 정보가 없으면 null)
+	 */
+	public ClusterMember ownerOf(String roomId) {
+		return isAffinityMode() ? ring.ownerOf(roomId) : null;
+	}
+	
+	/**
+	 * ✅ 이 노드가 방을 처리해야 하는지 여부
+	 */
+	public boolean isLocal(String roomId) {
+		ClusterMember owner = ownerOf(roomId);
+		return owner == null || owner.getNodeId().equals(clusterNode.getNodeId());
+	}
+	
+	private void refresh(List<ClusterMember> members) {
+		List<ClusterMember> sorted = members.stream()
+			.sorted(Comparator.comparing(ClusterMember::getNodeId))
+			.toList();
+		if (sorted.equals(currentMembers)) {
+			return;
+		}
+		
+		ring = ConsistentHashRing.of(sorted, clusterProperties.getVirtualNodes());
+		currentMembers = sorted;
+		log.info("🔄 클러스터 ring 갱신 - 노드 수: {}, 노드: {}", sorted.size(),
+			sorted.stream().map(ClusterMember::getNodeId).toList());
+		ringListeners.forEach(Runnable::run);
+	}
+}
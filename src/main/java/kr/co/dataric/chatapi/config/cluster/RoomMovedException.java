@@ -0,0 +1,16 @@
+package kr.co.dataric.chatapi.config.cluster;
+
+import org.springframework.web.reactive.socket.CloseStatus;
+
+/**
+ * ring 변경으로 방 담당 노드가 바뀌어 로컬 세션을 끊을 때 출력 스트림에 전달되는 예외
+ * - 세션은 CLOSE_STATUS(4307) 로 종료 → 클라이언트 재연결 시 RoomAffinityFilter 가 새 담당 노드로 redirect
+ */
+public class RoomMovedException extends RuntimeException {
+	
+	public static final CloseStatus CLOSE_STATUS = new CloseStatus(4307, "room moved");
+	
+	public RoomMovedException() {
+		super("방 담당 노드 변경");
+	}
+}
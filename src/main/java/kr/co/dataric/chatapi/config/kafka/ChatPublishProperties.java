@@ -0,0 +1,23 @@
+package kr.co.dataric.chatapi.config.kafka;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.publish")
+public class ChatPublishProperties {
+	private Duration roomUpdateFlushInterval = Duration.ofMillis(250);  // 방별 마지막 메시지(chat.room.redis.update) 최신 1건만 전송하는 주기
+	private int maxInFlight = 10000;                                     // 노드 단위 ack 대기 레코드 상한 (초과분은 permit 대기)
+	private int maxInFlightPerSession = 32;                              // /ws/chat · /ws/rs 세션 단위 처리 대기 프레임 상한 (도달 시 수신 일시 중지)
+	private Duration acquireTimeout = Duration.ofSeconds(10);            // permit 대기 상한 (초과 시 전송 포기)
+	private int flushConcurrency = 256;                                  // 병합 flush 시 동시 전송 레코드 수
+	private Duration linger = Duration.ofMillis(5);                      // producer linger.ms (같은 partition 레코드 묶음 전송)
+	private DataSize batchSize = DataSize.ofKilobytes(64);               // producer batch.size
+}
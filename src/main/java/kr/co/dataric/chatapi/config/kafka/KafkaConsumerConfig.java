@@ -0,0 +1,40 @@
+package kr.co.dataric.chatapi.config.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+public class KafkaConsumerConfig {
+	
+	private final KafkaProperties kafkaProperties;
+	
+	/**
+	 * ✅ chat.room.send 노드별 fan-out 용 Consumer
+	 * - 실시간 전달 목적이므로 latest 부터 수신
+	 */
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, byte[]> chatFanoutListenerContainerFactory() {
+		Map<String, Object> props = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
+		props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+		props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
+		
+		// 값은 bytes 그대로 수신 → ChatEnvelope 정본으로 재사용 (로컬 JSON 세션 전송 시 재직렬화 없음)
+		DefaultKafkaConsumerFactory<String, byte[]> consumerFactory = new DefaultKafkaConsumerFactory<>(
+			props, new StringDeserializer(), new ByteArrayDeserializer());
+		
+		ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(consumerFactory);
+		return factory;
+	}
+}
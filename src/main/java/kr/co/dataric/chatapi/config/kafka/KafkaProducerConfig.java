@@ -0,0 +1,51 @@
+package kr.co.dataric.chatapi.config.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+public class KafkaProducerConfig {
+	
+	private final KafkaProperties kafkaProperties;
+	private final ChatPublishProperties chatPublishProperties;
+	
+	/**
+	 * ✅ 기본 템플릿 (JsonSerializer, 읽음 이벤트 등)
+	 * - KafkaTemplate 빈을 직접 등록하면 자동 구성 템플릿이 빠지므로 여기서 함께 선언
+	 */
+	@Bean
+	@Primary
+	public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> kafkaProducerFactory) {
+		return new KafkaTemplate<>(kafkaProducerFactory);
+	}
+	
+	/**
+	 * ✅ 이미 인코딩된 bytes 전송용 (ChatEnvelope 정본 JSON 을 재직렬화 없이 그대로 전송)
+	 * - roomId key + idempotence → 같은 방 레코드는 같은 partition 에 순서대로 기록 (재시도 시에도 순서 유지)
+	 * - linger / batch.size 로 같은 partition 레코드를 묶어 전송
+	 */
+	@Bean
+	public KafkaTemplate<String, byte[]> byteArrayKafkaTemplate() {
+		Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties(null));
+		props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+		props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+		props.put(ProducerConfig.ACKS_CONFIG, "all");
+		props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+		props.put(ProducerConfig.LINGER_MS_CONFIG, (int) chatPublishProperties.getLinger().toMillis());
+		props.put(ProducerConfig.BATCH_SIZE_CONFIG, (int) chatPublishProperties.getBatchSize().toBytes());
+		return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+	}
+}
@@ -0,0 +1,49 @@
+package kr.co.dataric.chatapi.config.mongo;
+
+import kr.co.dataric.common.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import reactor.core.publisher.Flux;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MongoIndexConfig {
+	
+	private final ReactiveMongoTemplate mongoTemplate;
+	
+	/**
+	 * ✅ 기동 시 chat_messages 복합 인덱스 생성 (이미 있으면 no-op)
+	 * - 히스토리 커서 조회용 (roomId, timestamp, msgId)
+	 * - seq 커서 / 읽음 위치 변환용 (roomId, seq) - seq 가 있는 문서만
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		Index roomTimestamp = new Index()
+			.on("roomId", Sort.Direction.ASC)
+			.on("timestamp", Sort.Direction.DESC)
+			.on("msgId", Sort.Direction.DESC)
+			.named("idx_room_timestamp");
+		
+		Index roomSeq = new Index()
+			.on("roomId", Sort.Direction.ASC)
+			.on("seq", Sort.Direction.DESC)
+			.partial(PartialIndexFilter.of(Criteria.where("seq").exists(true)))
+			.named("idx_room_seq");
+		
+		Flux.just(roomTimestamp, roomSeq)
+			.concatMap(index -> mongoTemplate.indexOps(ChatMessage.class).ensureIndex(index))
+			.subscribe(
+				name -> log.info("✅ chat_messages 인덱스 확인 완료: {}", name),
+				e -> log.error("❌ chat_messages 인덱스 생성 실패", e)
+			);
+	}
+}
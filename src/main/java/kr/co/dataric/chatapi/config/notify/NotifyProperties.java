@@ -0,0 +1,18 @@
+package kr.co.dataric.chatapi.config.notify;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.notify")
+public class NotifyProperties {
+	private Duration pushWindow = Duration.ofMillis(100);  // 유저 단위 안 읽은 수 delta 묶음 전송 주기
+	private Duration memberCacheTtl = Duration.ofSeconds(30); // 안 읽은 수 증가 대상 (방 참여자 목록) 재사용 기간
+	private int memberCacheMaxRooms = 10000;                // 참여자 목록 유지 방 수 (LRU)
+}
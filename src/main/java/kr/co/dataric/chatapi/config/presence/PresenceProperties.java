@@ -0,0 +1,16 @@
+package kr.co.dataric.chatapi.config.presence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.presence")
+public class PresenceProperties {
+	private Duration flushInterval = Duration.ofMillis(500);  // 접속/해제 변경분 Mongo 반영 주기
+}
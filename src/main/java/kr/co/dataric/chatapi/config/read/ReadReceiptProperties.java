@@ -0,0 +1,21 @@
+package kr.co.dataric.chatapi.config.read;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.read-receipt")
+public class ReadReceiptProperties {
+	private Duration broadcastWindow = Duration.ofMillis(50);  // 방 단위 읽음 delta 묶음 전송 주기
+	private Duration kafkaFlushInterval = Duration.ofMillis(200); // 읽음 이벤트 Kafka 전송 주기
+	private int kafkaFlushSize = 500;                          // 대기 (room, user) 수가 이 이상이면 즉시 전송
+	private Duration mongoFlushInterval = Duration.ofSeconds(1); // last-read Mongo write-behind 주기
+	private int unreadIndexMaxRooms = 10000;                   // 안 읽은 인원 인덱스 유지 방 수 (LRU)
+	private Duration unreadIndexIdleTtl = Duration.ofSeconds(10); // 구독 중이 아닌 방 인덱스 재사용 기간 (읽음 이벤트 미반영 허용 범위)
+}
@@ -0,0 +1,16 @@
+package kr.co.dataric.chatapi.config.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.pubsub")
+public class PubSubProperties {
+	private Duration idleGrace = Duration.ofSeconds(10);  // 방 / 유저 세션이 모두 끊긴 뒤 채널 구독 해제까지 대기 (새로고침 재구독 방지)
+}
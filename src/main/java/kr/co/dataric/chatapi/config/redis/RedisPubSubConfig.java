@@ -4,8 +4,10 @@ import kr.co.dataric.chatapi.subscriber.ChatRedisSubscriber;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 
@@ -19,19 +21,21 @@ public class RedisPubSubConfig {
 	public RedisMessageListenerContainer container(RedisConnectionFactory factory) {
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(factory);
-		container.addMessageListener(listenerAdapter(), onlineTopic()); // 등록 되어야 함
-		container.addMessageListener(listenerAdapter(), chatReadTopic()); // 읽음 업데이트도 리스닝
+		container.addMessageListener(listenerAdapter(), chatReadTopic()); // 외부 consumer 의 기존 형식 읽음 알림 (방 채널은 RoomTopicSubscriber)
 		return container;
 	}
 	
 	@Bean
-	public ChannelTopic onlineTopic() {
-		return new ChannelTopic("onlineUpdate"); // 사용 중인 Redis Pub/Sub 채널명
+	public ChannelTopic chatReadTopic() {
+		return new ChannelTopic("chatReadUpdate");
 	}
 	
+	/**
+	 * 방 / 유저 단위 채널 구독용 (로컬 세션이 있는 방 / 유저만, 연결 1개로 다중화)
+	 */
 	@Bean
-	public ChannelTopic chatReadTopic() {
-		return new ChannelTopic("chatReadUpdate");
+	public ReactiveRedisMessageListenerContainer reactiveListenerContainer(ReactiveRedisConnectionFactory factory) {
+		return new ReactiveRedisMessageListenerContainer(factory);
 	}
 	
 	@Bean
@@ -0,0 +1,18 @@
+package kr.co.dataric.chatapi.config.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.password-hash")
+public class PasswordHashProperties {
+	private int threads = 0;                            // 0 이면 CPU 코어 수
+	private int queueCapacity = 64;                     // 대기 한도 초과 시 즉시 거절
+	private Duration retryAfter = Duration.ofSeconds(2); // 거절 시 Retry-After 힌트
+}
@@ -0,0 +1,15 @@
+package kr.co.dataric.chatapi.config.sequence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.sequence")
+public class SequenceProperties {
+	private int blockSize = 100;          // affinity 모드에서 담당 노드가 한 번에 예약하는 seq 수 (INCRBY)
+	private int maxLeasedRooms = 10000;   // 예약 block 을 보관하는 방 수 (초과 시 LRU 제거, 남은 seq 는 건너뜀)
+}
@@ -1,96 +1,181 @@
 package kr.co.dataric.chatapi.config.sink;
 
+import kr.co.dataric.chatapi.config.websocket.codec.FrameCodecRegistry;
+import kr.co.dataric.common.dto.ChatEnvelope;
 import kr.co.dataric.common.dto.ChatMessageDTO;
-import kr.co.dataric.common.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Sinks;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ChatSinkManager {
 	
-	// userId 기준 다중 세션 Sink 관리
-	private final Map<String, Set<Sinks.Many<ChatMessageDTO>>> userSinkMap = new ConcurrentHashMap<>();
+	private final FrameCodecRegistry frameCodecRegistry;
+	private final SinkProperties sinkProperties;
 	
-	// ✅ roomId 기준 참여자 userId 목록 관리 (채팅방 전체 broadcast 용도)
-	private final Map<String, Set<String>> roomUserMap = new ConcurrentHashMap<>();
+	// ✅ roomId -> (sessionId -> 세션 Sink) : 방 단위 broadcast 는 해당 방 세션만 순회
+	private final Map<String, RoomSessions> roomSessionMap = new ConcurrentHashMap<>();
+	
+	// userId -> 현재 접속 중인 세션 수 (전체 방 기준)
+	private final Map<String, Integer> userSessionCount = new ConcurrentHashMap<>();
 	
 	/**
-	 * 유저에 대해 Sink 등록 및 room 참여 등록
+	 * 세션 송신 큐 등록 (roomId + sessionId 기준)
 	 */
-	public Sinks.Many<ChatMessageDTO> register(String roomId, String userId) {
-		// userId -> Sink 저장
-		Sinks.Many<ChatMessageDTO> sink = Sinks.many().multicast().directBestEffort();
-		userSinkMap.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(sink);
+	public OutboundQueue<SharedFrame> register(String roomId, String sessionId, String userId) {
+		OutboundQueue<SharedFrame> sink = sinkProperties.getChat().newQueue();
 		
-		// roomId -> userId 참여자 등록
-		roomUserMap.computeIfAbsent(roomId, k -> ConcurrentHashMap.newKeySet()).add(userId);
+		roomSessionMap.compute(roomId, (key, room) -> {
+			RoomSessions target = room != null ? room : new RoomSessions();
+			target.add(sessionId, userId, sink);
+			return target;
+		});
+		userSessionCount.merge(userId, 1, Integer::sum);
 		
-		log.info("✅ Sink 등록: userId={}, roomId={}, 총 Sink 수: {}", userId, roomId, userSinkMap.get(userId).size());
+		log.info("✅ Sink 등록: userId={}, roomId={}, sessionId={}", userId, roomId, sessionId);
 		return sink;
 	}
 	
 	/**
-	 * 유저 Sink 제거 및 room 참여 해제
+	 * 세션 Sink 제거 (같은 유저의 다른 세션은 그대로 유지)
 	 */
-	public void unregister(String roomId, String userId, Sinks.Many<ChatMessageDTO> sink) {
-		Set<Sinks.Many<ChatMessageDTO>> sinks = userSinkMap.get(userId);
-		if (sinks != null) {
-			sinks.remove(sink);
-			if (sinks.isEmpty()) {
-				userSinkMap.remove(userId);
-				log.info("❎ userId 모든 Sink 제거 완료: {}", userId);
+	public void unregister(String roomId, String sessionId) {
+		SessionSink[] removed = new SessionSink[1];
+		
+		roomSessionMap.computeIfPresent(roomId, (key, room) -> {
+			removed[0] = room.remove(sessionId);
+			if (room.isEmpty()) {
+				log.info("❎ roomId={} 모든 세션 제거", roomId);
+				return null;
 			}
-		}
+			return room;
+		});
 		
-		Set<String> roomUsers = roomUserMap.get(roomId);
-		if (roomUsers != null) {
-			roomUsers.remove(userId);
-			if (roomUsers.isEmpty()) {
-				roomUserMap.remove(roomId);
-				log.info("❎ roomId={} 모든 사용자 제거", roomId);
+		if (removed[0] != null) {
+			userSessionCount.computeIfPresent(removed[0].userId, (key, count) -> count > 1 ? count - 1 : null);
+			
+			OutboundQueue<SharedFrame> sink = removed[0].sink;
+			if (sink.getOverflowCount() > 0) {
+				log.warn("⚠️ 송신 큐 overflow 발생 세션 - roomId={}, sessionId={}, overflow={}, dropped={}",
+					roomId, sessionId, sink.getOverflowCount(), sink.getDroppedCount());
 			}
 		}
 	}
 	
 	/**
-	 * userId에게 메시지 전송 (모든 세션)
+	 * 해당 채팅방의 전체 세션에게 메시지 전송 (보낸 사람 세션 포함)
+	 * - JSON 세션은 envelope 정본 bytes 를 그대로 공유, CBOR 세션이 있으면 CBOR 만 1회 인코딩
 	 */
-	public void emitToUser(String userId, ChatMessageDTO message) {
-		Set<Sinks.Many<ChatMessageDTO>> sinks = userSinkMap.get(userId);
-		if (sinks != null && !sinks.isEmpty()) {
-			sinks.forEach(sink -> sink.tryEmitNext(message));
+	public void emitToRoom(ChatEnvelope envelope) {
+		RoomSessions room = roomSessionMap.get(envelope.getRoomId());
+		if (room == null || room.isEmpty()) {
+			return;
 		}
+		
+		SharedFrame frame = frameCodecRegistry.frame(envelope);
+		room.sessions.values().forEach(session -> session.sink.offer(frame));
 	}
 	
 	/**
-	 * 해당 채팅방의 전체 참여자에게 메시지 전송
+	 * 해당 채팅방의 전체 세션에게 제어 프레임 전송 (skipSeq 등)
 	 */
-	public void emitToRoom(String roomId, ChatMessageDTO message) {
-		Set<String> users = roomUserMap.get(roomId);
-		if (users != null) {
-			users.forEach(userId -> emitToUser(userId, message));
+	public void emitToRoom(String roomId, Object value) {
+		RoomSessions room = roomSessionMap.get(roomId);
+		if (room == null || room.isEmpty()) {
+			return;
 		}
+		
+		SharedFrame frame = frameCodecRegistry.frame(value);
+		room.sessions.values().forEach(session -> session.sink.offer(frame));
+	}
+	
+	/**
+	 * ✅ 조건에 맞는 방의 세션 송신 큐 종료 → 종료된 방 목록 반환
+	 * - 등록 해제는 각 세션 핸들러의 doFinally 에서 unregister
+	 */
+	public List<String> closeRooms(Predicate<String> filter, Supplier<RuntimeException> reason) {
+		List<String> closed = new ArrayList<>();
+		roomSessionMap.forEach((roomId, room) -> {
+			if (filter.test(roomId)) {
+				room.sessions.values().forEach(session -> session.sink.close(reason.get()));
+				closed.add(roomId);
+			}
+		});
+		return closed;
+	}
+	
+	/**
+	 * 단일 Sink 에 메시지 전송 (초기 메시지 전송 등)
+	 */
+	public void emit(OutboundQueue<SharedFrame> sink, ChatMessageDTO message) {
+		sink.offer(encode(message));
+	}
+	
+	/**
+	 * ✅ 공유 프레임 생성 (브로드캐스트 1회당 형식별 1번 직렬화)
+	 */
+	public SharedFrame encode(ChatMessageDTO message) {
+		return frameCodecRegistry.frame(message);
 	}
 	
 	/**
 	 * 현재 접속 중인 userId인지 여부 확인
 	 */
 	public boolean isUserConnected(String userId) {
-		return userSinkMap.containsKey(userId) && !userSinkMap.get(userId).isEmpty();
+		return userSessionCount.containsKey(userId);
 	}
 	
 	/**
-	 * 특정 방의 현재 참여자 수 반환
+	 * 로컬 노드에 해당 방 세션이 있는지 여부
+	 */
+	public boolean hasRoom(String roomId) {
+		return roomSessionMap.containsKey(roomId);
+	}
+	
+	/**
+	 * 특정 방의 현재 참여자 수 반환 (중복 세션 제외)
 	 */
 	public int getParticipantCount(String roomId) {
-		Set<String> users = roomUserMap.get(roomId);
-		return users != null ? users.size() : 0;
+		RoomSessions room = roomSessionMap.get(roomId);
+		return room != null ? room.userCount.size() : 0;
+	}
+	
+	/**
+	 * 방 하나의 세션 목록 + 유저별 세션 수
+	 */
+	private static final class RoomSessions {
+		
+		private final Map<String, SessionSink> sessions = new ConcurrentHashMap<>();
+		private final Map<String, Integer> userCount = new ConcurrentHashMap<>();
+		
+		void add(String sessionId, String userId, OutboundQueue<SharedFrame> sink) {
+			if (sessions.put(sessionId, new SessionSink(userId, sink)) == null) {
+				userCount.merge(userId, 1, Integer::sum);
+			}
+		}
+		
+		SessionSink remove(String sessionId) {
+			SessionSink removed = sessions.remove(sessionId);
+			if (removed != null) {
+				userCount.computeIfPresent(removed.userId, (key, count) -> count > 1 ? count - 1 : null);
+			}
+			return removed;
+		}
+		
+		boolean isEmpty() {
+			return sessions.isEmpty();
+		}
+	}
+	
+	private record SessionSink(String userId, OutboundQueue<SharedFrame> sink) {
 	}
 }
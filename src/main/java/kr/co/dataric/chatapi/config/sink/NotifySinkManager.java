@@ -0,0 +1,107 @@
+package kr.co.dataric.chatapi.config.sink;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * /ws/notify 세션 송신 큐 (userId 기준)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotifySinkManager {
+	
+	private final SinkProperties sinkProperties;
+	
+	private final Map<String, Set<OutboundQueue<String>>> sinkMap = new ConcurrentHashMap<>();
+	
+	// 유저의 첫 세션 등록 / 마지막 세션 제거 시 호출 (유저 채널 구독 관리)
+	private final List<Consumer<String>> userListeners = new CopyOnWriteArrayList<>();
+	
+	/**
+	 * ✅ 송신 큐 생성 및 등록
+	 */
+	public OutboundQueue<String> register(String userId) {
+		OutboundQueue<String> sink = sinkProperties.getNotify().newQueue();
+		boolean[] activated = {false};
+		sinkMap.compute(userId, (key, current) -> {
+			Set<OutboundQueue<String>> target = current;
+			if (target == null) {
+				target = ConcurrentHashMap.newKeySet();
+				activated[0] = true;
+			}
+			target.add(sink);
+			return target;
+		});
+		log.info("✅ Notify Sink 등록 - userId: {}", userId);
+		
+		if (activated[0]) {
+			notifyUserListeners(userId);
+		}
+		return sink;
+	}
+	
+	/**
+	 * ✅ 송신 큐 제거 (마지막 세션이면 userId 항목도 제거)
+	 */
+	public void remove(String userId, OutboundQueue<String> sink) {
+		boolean[] emptied = {false};
+		sinkMap.computeIfPresent(userId, (key, sinks) -> {
+			sinks.remove(sink);
+			if (sinks.isEmpty()) {
+				emptied[0] = true;
+				return null;
+			}
+			return sinks;
+		});
+		
+		if (emptied[0]) {
+			notifyUserListeners(userId);
+		}
+		
+		if (sink.getOverflowCount() > 0) {
+			log.warn("⚠️ 알림 송신 큐 overflow 발생 세션 - userId={}, overflow={}", userId, sink.getOverflowCount());
+		}
+	}
+	
+	/**
+	 * ✅ 유저의 모든 세션에 전송
+	 */
+	public void emit(String userId, String message) {
+		get(userId).forEach(sink -> sink.offer(message));
+	}
+	
+	public Set<OutboundQueue<String>> get(String userId) {
+		return sinkMap.getOrDefault(userId, Collections.emptySet());
+	}
+	
+	public boolean isConnected(String userId) {
+		return sinkMap.containsKey(userId);
+	}
+	
+	/**
+	 * ✅ 유저 연결 / 해제 전환 리스너 등록 (리스너는 isConnected 로 현재 상태를 다시 확인)
+	 */
+	public void addUserListener(Consumer<String> listener) {
+		userListeners.add(listener);
+	}
+	
+	private void notifyUserListeners(String userId) {
+		userListeners.forEach(listener -> {
+			try {
+				listener.accept(userId);
+			} catch (Exception e) {
+				log.warn("❗ 유저 상태 리스너 처리 실패 - userId: {}, error: {}", userId, e.toString());
+			}
+		});
+	}
+}
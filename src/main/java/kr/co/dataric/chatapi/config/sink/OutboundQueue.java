@@ -0,0 +1,171 @@
+package kr.co.dataric.chatapi.config.sink;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Operators;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션 단위 송신 큐 (lock-free multi-producer / single drain)
+ * - 여러 스레드가 동시에 offer 해도 실패 없이 적재 (Sinks 의 FAIL_NON_SERIALIZED 방지)
+ * - capacity 를 넘으면 OverflowPolicy 에 따라 처리 → 느린 클라이언트가 힙을 잠식하지 못함
+ * - 세션 출력 스트림의 request 수만큼만 drain
+ */
+public class OutboundQueue<T> {
+	
+	public enum OverflowPolicy {
+		DROP_OLDEST,  // 가장 오래된 프레임 버림
+		CONFLATE,     // 대기 중 프레임을 모두 버리고 최신 프레임만 유지
+		DISCONNECT    // 느린 클라이언트 연결 종료
+	}
+	
+	private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicInteger wip = new AtomicInteger();
+	private final AtomicLong requested = new AtomicLong();
+	
+	// 세션별 overflow 카운터
+	private final AtomicLong overflowCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+	
+	private final int capacity;
+	private final OverflowPolicy policy;
+	private final Flux<T> flux;
+	
+	private volatile FluxSink<T> emitter;
+	private volatile boolean terminated;
+	
+	public OutboundQueue(int capacity, OverflowPolicy policy) {
+		this.capacity = capacity;
+		this.policy = policy;
+		this.flux = Flux.create(sink -> {
+			this.emitter = sink;
+			sink.onRequest(n -> {
+				requested.getAndAccumulate(n, Operators::addCap);
+				drain();
+			});
+			sink.onDispose(() -> {
+				terminated = true;
+				clear();
+			});
+		});
+	}
+	
+	/**
+	 * ✅ 프레임 적재 (종료되었거나 연결 해제 정책으로 거부되면 false)
+	 */
+	public boolean offer(T item) {
+		if (terminated) {
+			return false;
+		}
+		
+		if (size.incrementAndGet() > capacity) {
+			overflowCount.incrementAndGet();
+			switch (policy) {
+				case DROP_OLDEST -> dropOne();
+				case CONFLATE -> {
+					while (dropOne()) {
+						// 대기 중 프레임 전부 제거
+					}
+				}
+				case DISCONNECT -> {
+					size.decrementAndGet();
+					disconnect();
+					return false;
+				}
+			}
+		}
+		
+		queue.offer(item);
+		drain();
+		return true;
+	}
+	
+	public Flux<T> asFlux() {
+		return flux;
+	}
+	
+	public int size() {
+		return size.get();
+	}
+	
+	public long getOverflowCount() {
+		return overflowCount.get();
+	}
+	
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+	
+	private boolean dropOne() {
+		if (queue.poll() == null) {
+			return false;
+		}
+		size.decrementAndGet();
+		droppedCount.incrementAndGet();
+		return true;
+	}
+	
+	/**
+	 * ✅ 대기 프레임을 버리고 출력 스트림을 reason 으로 종료 (핸들러가 예외 타입별 close status 결정)
+	 */
+	public void close(RuntimeException reason) {
+		terminated = true;
+		clear();
+		FluxSink<T> e = emitter;
+		if (e != null) {
+			e.error(reason);
+		}
+	}
+	
+	private void disconnect() {
+		close(new SlowConsumerException(capacity));
+	}
+	
+	private void clear() {
+		while (queue.poll() != null) {
+			size.decrementAndGet();
+		}
+	}
+	
+	private void drain() {
+		if (wip.getAndIncrement() != 0) {
+			return;
+		}
+		
+		int missed = 1;
+		do {
+			FluxSink<T> e = emitter;
+			if (e != null) {
+				long r = requested.get();
+				long emitted = 0;
+				while (emitted != r && !terminated) {
+					T item = queue.poll();
+					if (item == null) {
+						break;
+					}
+					size.decrementAndGet();
+					e.next(item);
+					emitted++;
+				}
+				if (emitted != 0 && r != Long.MAX_VALUE) {
+					requested.addAndGet(-emitted);
+				}
+			}
+			missed = wip.addAndGet(-missed);
+		} while (missed != 0);
+	}
+	
+	/**
+	 * DISCONNECT 정책으로 세션을 끊을 때 출력 스트림에 전달되는 예외
+	 */
+	public static class SlowConsumerException extends RuntimeException {
+		public SlowConsumerException(int capacity) {
+			super("송신 큐 한도 초과 (capacity=" + capacity + ")");
+		}
+	}
+}
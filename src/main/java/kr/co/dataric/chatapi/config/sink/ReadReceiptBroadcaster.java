@@ -0,0 +1,81 @@
+package kr.co.dataric.chatapi.config.sink;
+
+import kr.co.dataric.chatapi.config.read.ReadReceiptProperties;
+import kr.co.dataric.chatapi.config.websocket.codec.FrameCodecRegistry;
+import kr.co.dataric.chatapi.dto.response.ws.ReadListFrame;
+import kr.co.dataric.common.dto.LastReadMarker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 변경분(delta) 방 단위 묶음 전송
+ * - broadcastWindow 동안 들어온 읽음 갱신을 유저별 최신 위치만 남겨 readList 프레임 1개로 전송
+ * - 전체 목록은 /ws/rs 입장 시에만 해당 세션에 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadReceiptBroadcaster {
+	
+	private final FrameCodecRegistry frameCodecRegistry;
+	private final StatusSinkManager statusSinkManager;
+	private final ReadReceiptProperties readReceiptProperties;
+	
+	// roomId -> (userId -> 최신 읽음 위치), 내부 map 은 compute 안에서만 변경
+	private final Map<String, Map<String, LastReadMarker>> pending = new ConcurrentHashMap<>();
+	
+	/**
+	 * ✅ 읽음 변경분 적재 (방의 첫 변경분이면 window 후 flush 예약)
+	 */
+	public void enqueue(String roomId, String userId, LastReadMarker marker) {
+		if (marker == null || statusSinkManager.get(roomId).isEmpty()) {
+			return;
+		}
+		
+		boolean[] scheduled = {false};
+		pending.compute(roomId, (key, users) -> {
+			Map<String, LastReadMarker> target = users;
+			if (target == null) {
+				target = new HashMap<>();
+				scheduled[0] = true;
+			}
+			target.merge(userId, marker, (current, next) -> next.isAfter(current) ? next : current);
+			return target;
+		});
+		
+		if (scheduled[0]) {
+			Mono.delay(readReceiptProperties.getBroadcastWindow())
+				.subscribe(tick -> flush(roomId));
+		}
+	}
+	
+	/**
+	 * ✅ 방 전체 읽음 목록 프레임 (입장 시 snapshot)
+	 */
+	public SharedFrame snapshotFrame(String roomId, Map<String, LastReadMarker> markers) {
+		return frameCodecRegistry.frame(ReadListFrame.of(roomId, toReadList(markers), false));
+	}
+	
+	private void flush(String roomId) {
+		Map<String, LastReadMarker> users = pending.remove(roomId);
+		if (users == null || users.isEmpty()) {
+			return;
+		}
+		
+		statusSinkManager.emit(roomId, frameCodecRegistry.frame(ReadListFrame.of(roomId, toReadList(users), true)));
+		log.debug("📘 읽음 delta 전송 - roomId: {}, 변경 유저: {}명", roomId, users.size());
+	}
+	
+	private List<Map<String, String>> toReadList(Map<String, LastReadMarker> markers) {
+		return markers.entrySet().stream()
+			.map(entry -> entry.getValue().toReadEntry(entry.getKey()))
+			.toList();
+	}
+}
@@ -0,0 +1,56 @@
+package kr.co.dataric.chatapi.config.sink;
+
+import kr.co.dataric.chatapi.config.websocket.codec.FrameCodecRegistry;
+import kr.co.dataric.chatapi.config.websocket.codec.WireFormat;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 한 번만 직렬화된 WebSocket 프레임
+ * - 같은 방의 모든 세션이 동일한 byte[] 를 공유 (수신자 수와 무관하게 형식별 인코딩 1회)
+ * - JSON / CBOR 중 실제로 요청한 세션이 있는 형식만 인코딩
+ * - 세션별로는 zero-copy wrap 만 수행
+ */
+public final class SharedFrame {
+	
+	private final Object value;
+	private final FrameCodecRegistry codecs;
+	private final Map<WireFormat, byte[]> payloads = new EnumMap<>(WireFormat.class);
+	
+	private SharedFrame(Object value, FrameCodecRegistry codecs) {
+		this.value = value;
+		this.codecs = codecs;
+	}
+	
+	public static SharedFrame of(Object value, FrameCodecRegistry codecs) {
+		return new SharedFrame(value, codecs);
+	}
+	
+	/**
+	 * ✅ JSON 인코딩이 이미 있는 경우 (ChatEnvelope 정본 bytes 재사용)
+	 */
+	public static SharedFrame of(Object value, FrameCodecRegistry codecs, byte[] json) {
+		SharedFrame frame = new SharedFrame(value, codecs);
+		frame.payloads.put(WireFormat.JSON, json);
+		return frame;
+	}
+	
+	/**
+	 * ✅ 형식별 payload (처음 요청 시 인코딩)
+	 */
+	public byte[] payload(WireFormat format) {
+		synchronized (payloads) {
+			return payloads.computeIfAbsent(format, key -> codecs.encode(value, key));
+		}
+	}
+	
+	/**
+	 * ✅ 세션 버퍼 팩토리로 감싸서 전송용 메시지 생성 (복사 없음)
+	 */
+	public WebSocketMessage toMessage(WebSocketSession session, WireFormat format) {
+		return new WebSocketMessage(format.getMessageType(), session.bufferFactory().wrap(payload(format)));
+	}
+}
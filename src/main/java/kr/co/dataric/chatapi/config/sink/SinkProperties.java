@@ -0,0 +1,36 @@
+package kr.co.dataric.chatapi.config.sink;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.sink")
+public class SinkProperties {
+	
+	private QueueSpec chat = new QueueSpec(1024, OutboundQueue.OverflowPolicy.DISCONNECT);     // /ws/chat
+	private QueueSpec status = new QueueSpec(256, OutboundQueue.OverflowPolicy.DROP_OLDEST);   // /ws/rs
+	private QueueSpec notify = new QueueSpec(256, OutboundQueue.OverflowPolicy.DISCONNECT);    // /ws/notify (delta 유실 대신 재연결 snapshot)
+	
+	@Getter
+	@Setter
+	public static class QueueSpec {
+		private int capacity;
+		private OutboundQueue.OverflowPolicy overflowPolicy;
+		
+		public QueueSpec() {
+		}
+		
+		public QueueSpec(int capacity, OutboundQueue.OverflowPolicy overflowPolicy) {
+			this.capacity = capacity;
+			this.overflowPolicy = overflowPolicy;
+		}
+		
+		public <T> OutboundQueue<T> newQueue() {
+			return new OutboundQueue<>(capacity, overflowPolicy);
+		}
+	}
+}
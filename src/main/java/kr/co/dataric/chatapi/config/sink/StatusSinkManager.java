@@ -1,73 +1,140 @@
 package kr.co.dataric.chatapi.config.sink;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Sinks;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class StatusSinkManager {
 	
-	private final Map<String, Set<Sinks.Many<String>>> sinkMap = new ConcurrentHashMap<>();
+	private final SinkProperties sinkProperties;
+	
+	private final Map<String, Set<OutboundQueue<SharedFrame>>> sinkMap = new ConcurrentHashMap<>();
+	
+	// 방의 첫 세션 등록 / 마지막 세션 제거 시 호출 (방 채널 구독 관리)
+	private final List<Consumer<String>> roomListeners = new CopyOnWriteArrayList<>();
 	
 	/**
-	 * ✅ Sink 등록: roomId 별로 Sink Set에 추가
+	 * ✅ 송신 큐 생성 및 등록: roomId 별로 Set에 추가
 	 */
-	public void register(String roomId, Sinks.Many<String> sink) {
-		Set<Sinks.Many<String>> sinks = getOrCreate(roomId);
-		sinks.add(sink);
+	public OutboundQueue<SharedFrame> register(String roomId) {
+		OutboundQueue<SharedFrame> sink = sinkProperties.getStatus().newQueue();
+		boolean[] activated = {false};
+		Set<OutboundQueue<SharedFrame>> sinks = sinkMap.compute(roomId, (key, current) -> {
+			Set<OutboundQueue<SharedFrame>> target = current;
+			if (target == null) {
+				target = ConcurrentHashMap.newKeySet();
+				activated[0] = true;
+			}
+			target.add(sink);
+			return target;
+		});
 		log.info("✅ Sink 등록 - roomId: {}, 현재 연결 수: {}", roomId, sinks.size());
+		
+		if (activated[0]) {
+			notifyRoomListeners(roomId);
+		}
+		return sink;
 	}
 	
 	/**
 	 * ✅ Sink 제거: 해당 roomId의 Sink Set에서 제거
 	 */
-	public void remove(String roomId, Sinks.Many<String> sink) {
-		Set<Sinks.Many<String>> sinks = sinkMap.get(roomId);
-		if (sinks != null) {
+	public void remove(String roomId, OutboundQueue<SharedFrame> sink) {
+		boolean[] emptied = {false};
+		sinkMap.computeIfPresent(roomId, (key, sinks) -> {
 			sinks.remove(sink);
 			log.info("🧹 Sink 제거 - roomId: {}, 남은 Sink 수: {}", roomId, sinks.size());
 			if (sinks.isEmpty()) {
-				sinkMap.remove(roomId);
 				log.info("🗑️ roomId '{}' 의 Sink Set 제거 완료", roomId);
+				emptied[0] = true;
+				return null;
 			}
+			return sinks;
+		});
+		
+		if (emptied[0]) {
+			notifyRoomListeners(roomId);
+		}
+		
+		if (sink.getOverflowCount() > 0) {
+			log.warn("⚠️ 상태 송신 큐 overflow 발생 세션 - roomId={}, overflow={}, dropped={}",
+				roomId, sink.getOverflowCount(), sink.getDroppedCount());
 		}
 	}
 	
+	/**
+	 * ✅ 방 활성 / 유휴 전환 리스너 등록 (리스너는 hasRoom 으로 현재 상태를 다시 확인)
+	 */
+	public void addRoomListener(Consumer<String> listener) {
+		roomListeners.add(listener);
+	}
+	
+	/**
+	 * 로컬 노드에 해당 방 세션이 있는지 여부
+	 */
+	public boolean hasRoom(String roomId) {
+		return sinkMap.containsKey(roomId);
+	}
+	
 	/**
 	 * ✅ Sink로 메시지 브로드캐스트 전송
 	 */
-	public void emit(String roomId, String message) {
-		Set<Sinks.Many<String>> sinks = sinkMap.get(roomId);
+	public void emit(String roomId, SharedFrame message) {
+		Set<OutboundQueue<SharedFrame>> sinks = sinkMap.get(roomId);
 		if (sinks == null || sinks.isEmpty()) {
 			log.debug("⚠️ 전송할 Sink 없음 - roomId: {}", roomId);
 			return;
 		}
 		
 		sinks.forEach(sink -> {
-			Sinks.EmitResult result = sink.tryEmitNext(message);
-			if (result.isFailure()) {
-				log.warn("❌ 메시지 전송 실패 - 이유: {}, 메시지: {}", result, message);
+			if (!sink.offer(message)) {
+				log.warn("❌ 메시지 전송 실패 - 종료된 세션, roomId: {}", roomId);
 			}
 		});
 	}
 	
 	/**
-	 * ✅ Sink Set 조회 (읽기 전용)
+	 * ✅ 조건에 맞는 방의 송신 큐 종료 → 종료된 방 목록 반환 (제거는 핸들러 doFinally 의 remove)
 	 */
-	public Set<Sinks.Many<String>> get(String roomId) {
-		return sinkMap.getOrDefault(roomId, Collections.emptySet());
+	public List<String> closeRooms(Predicate<String> filter, Supplier<RuntimeException> reason) {
+		List<String> closed = new ArrayList<>();
+		sinkMap.forEach((roomId, sinks) -> {
+			if (filter.test(roomId)) {
+				sinks.forEach(sink -> sink.close(reason.get()));
+				closed.add(roomId);
+			}
+		});
+		return closed;
 	}
 	
 	/**
-	 * ✅ Sink Set 생성 및 반환
+	 * ✅ Sink Set 조회 (읽기 전용)
 	 */
-	public Set<Sinks.Many<String>> getOrCreate(String roomId) {
-		return sinkMap.computeIfAbsent(roomId, key -> ConcurrentHashMap.newKeySet());
+	public Set<OutboundQueue<SharedFrame>> get(String roomId) {
+		return sinkMap.getOrDefault(roomId, Collections.emptySet());
+	}
+	
+	private void notifyRoomListeners(String roomId) {
+		roomListeners.forEach(listener -> {
+			try {
+				listener.accept(roomId);
+			} catch (Exception e) {
+				log.warn("❗ 방 상태 리스너 처리 실패 - roomId: {}, error: {}", roomId, e.toString());
+			}
+		});
 	}
 }
@@ -0,0 +1,88 @@
+package kr.co.dataric.chatapi.config.sink;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.dataric.chatapi.config.notify.NotifyProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 안 읽은 수 변경분 묶음 전송
+ * - pushWindow 동안 바뀐 방들의 최신 카운트만 모아 unread 프레임 1개로 전송
+ * - 전체 목록은 /ws/notify 연결 시에만 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadBadgeBroadcaster {
+	
+	private final ObjectMapper objectMapper;
+	private final NotifySinkManager notifySinkManager;
+	private final NotifyProperties notifyProperties;
+	
+	// userId -> (roomId -> 안 읽은 수), 내부 map 은 compute 안에서만 변경
+	private final Map<String, Map<String, Long>> pending = new ConcurrentHashMap<>();
+	
+	/**
+	 * ✅ 변경분 적재 (유저의 첫 변경분이면 window 후 flush 예약)
+	 */
+	public void enqueue(String userId, String roomId, long count) {
+		if (!notifySinkManager.isConnected(userId)) {
+			return;
+		}
+		
+		boolean[] scheduled = {false};
+		pending.compute(userId, (key, rooms) -> {
+			Map<String, Long> target = rooms;
+			if (target == null) {
+				target = new HashMap<>();
+				scheduled[0] = true;
+			}
+			target.put(roomId, count);
+			return target;
+		});
+		
+		if (scheduled[0]) {
+			Mono.delay(notifyProperties.getPushWindow())
+				.subscribe(tick -> flush(userId));
+		}
+	}
+	
+	/**
+	 * ✅ 전체 방 안 읽은 수 프레임 (연결 시 snapshot)
+	 */
+	public String snapshotFrame(Map<String, Long> rooms) {
+		return toFrame(rooms, false);
+	}
+	
+	private void flush(String userId) {
+		Map<String, Long> rooms = pending.remove(userId);
+		if (rooms == null || rooms.isEmpty()) {
+			return;
+		}
+		
+		String frame = toFrame(rooms, true);
+		if (frame != null) {
+			notifySinkManager.emit(userId, frame);
+		}
+	}
+	
+	private String toFrame(Map<String, Long> rooms, boolean delta) {
+		try {
+			return objectMapper.writeValueAsString(Map.of(
+				"type", "unread",
+				"delta", delta,
+				"rooms", rooms
+			));
+		} catch (JsonProcessingException e) {
+			log.error("❌ 안 읽은 수 직렬화 실패", e);
+			return null;
+		}
+	}
+}
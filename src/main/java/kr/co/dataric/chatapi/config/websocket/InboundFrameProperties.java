@@ -0,0 +1,18 @@
+package kr.co.dataric.chatapi.config.websocket;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.inbound")
+public class InboundFrameProperties {
+	private DataSize maxFrameSize = DataSize.ofKilobytes(64);  // /ws/chat 수신 프레임 최대 크기 (초과 시 파싱 없이 폐기)
+	private int maxMessageLength = 5000;                       // message 본문 최대 글자 수
+	private int maxIdLength = 128;                             // msgId / participants 항목 최대 글자 수
+	private int maxParticipants = 1000;                        // participants 최대 개수
+}
@@ -0,0 +1,139 @@
+package kr.co.dataric.chatapi.config.websocket.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import kr.co.dataric.chatapi.config.sink.SharedFrame;
+import kr.co.dataric.chatapi.dto.response.ws.AckFrame;
+import kr.co.dataric.chatapi.dto.response.ws.ReadListFrame;
+import kr.co.dataric.chatapi.dto.response.ws.SeqSkipFrame;
+import kr.co.dataric.chatapi.dto.response.ws.StatusFrame;
+import kr.co.dataric.common.dto.ChatEnvelope;
+import kr.co.dataric.common.dto.ChatMessageDTO;
+import kr.co.dataric.common.dto.ReadReceiptEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 프레임 타입별 codec (JSON / CBOR)
+ * - 타입마다 형식별 ObjectWriter / ObjectReader 를 미리 만들어 두고 재사용 (호출마다 serializer 탐색 없음)
+ * - CBOR mapper 는 애플리케이션 ObjectMapper 설정(JavaTimeModule, 날짜 형식 등)을 그대로 복사
+ * - 등록되지 않은 타입은 encode 시 예외 → 새 프레임 타입은 여기 등록
+ */
+@Slf4j
+@Component
+public class FrameCodecRegistry {
+	
+	private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+	private final Map<Class<?>, Map<WireFormat, ObjectWriter>> writers = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Map<WireFormat, ObjectReader>> readers = new ConcurrentHashMap<>();
+	
+	public FrameCodecRegistry(ObjectMapper objectMapper) {
+		mappers.put(WireFormat.JSON, objectMapper);
+		mappers.put(WireFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+		
+		// 송신 프레임
+		registerWriter(ChatMessageDTO.class);
+		registerWriter(ReadListFrame.class);
+		registerWriter(StatusFrame.class);
+		registerWriter(AckFrame.class);
+		registerWriter(SeqSkipFrame.class);
+		
+		// 수신 프레임
+		registerReader(ReadReceiptEvent.class);
+		registerReader(ChatMessageDTO.class);  // 다른 노드의 chat.room.send 레코드
+	}
+	
+	public void registerWriter(Class<?> type) {
+		Map<WireFormat, ObjectWriter> byFormat = new EnumMap<>(WireFormat.class);
+		mappers.forEach((format, mapper) -> byFormat.put(format, mapper.writerFor(type)));
+		writers.put(type, byFormat);
+	}
+	
+	public void registerReader(Class<?> type) {
+		Map<WireFormat, ObjectReader> byFormat = new EnumMap<>(WireFormat.class);
+		mappers.forEach((format, mapper) -> byFormat.put(format, mapper.readerFor(type)));
+		readers.put(type, byFormat);
+	}
+	
+	/**
+	 * ✅ 여러 세션이 공유하는 프레임 (형식별 인코딩은 처음 필요할 때 1회)
+	 */
+	public SharedFrame frame(Object value) {
+		return SharedFrame.of(value, this);
+	}
+	
+	/**
+	 * ✅ 채팅 envelope 프레임 (JSON 은 envelope 정본 bytes 그대로)
+	 */
+	public SharedFrame frame(ChatEnvelope envelope) {
+		return SharedFrame.of(envelope.getMessage(), this, envelope.getJson());
+	}
+	
+	/**
+	 * ✅ 메시지 1건당 1번 : 정본 JSON 인코딩 후 envelope 생성
+	 */
+	public ChatEnvelope envelope(ChatMessageDTO message) {
+		return ChatEnvelope.of(message, encode(message, WireFormat.JSON));
+	}
+	
+	/**
+	 * ✅ Kafka 레코드 bytes → envelope (bytes 는 그대로 정본으로 재사용)
+	 */
+	public ChatEnvelope envelope(byte[] json) throws IOException {
+		ChatMessageDTO message = readers.get(ChatMessageDTO.class).get(WireFormat.JSON).readValue(json);
+		return ChatEnvelope.of(message, json);
+	}
+	
+	/**
+	 * ✅ 형식별 인코딩 (실패 시 빈 객체)
+	 */
+	public byte[] encode(Object value, WireFormat format) {
+		Map<WireFormat, ObjectWriter> byFormat = writers.get(value.getClass());
+		if (byFormat == null) {
+			throw new IllegalArgumentException("등록되지 않은 WebSocket 프레임 타입: " + value.getClass().getName());
+		}
+		
+		try {
+			return byFormat.get(format).writeValueAsBytes(value);
+		} catch (JsonProcessingException e) {
+			log.error("❌ WebSocket 프레임 직렬화 실패 - type: {}, format: {}", value.getClass().getSimpleName(), format, e);
+			return emptyObject(format);
+		}
+	}
+	
+	/**
+	 * ✅ 수신 프레임 → 트리 (필드 유무로 분기하는 /ws/rs 용)
+	 */
+	public JsonNode readTree(DataBuffer payload, WireFormat format) throws IOException {
+		return mappers.get(format).readTree(payload.asInputStream());
+	}
+	
+	/**
+	 * ✅ 트리 → 등록된 수신 타입
+	 */
+	public <T> T treeToValue(JsonNode node, Class<T> type, WireFormat format) throws IOException {
+		Map<WireFormat, ObjectReader> byFormat = readers.get(type);
+		if (byFormat == null) {
+			throw new IllegalArgumentException("등록되지 않은 WebSocket 수신 타입: " + type.getName());
+		}
+		return byFormat.get(format).treeToValue(node, type);
+	}
+	
+	private byte[] emptyObject(WireFormat format) {
+		try {
+			return mappers.get(format).writeValueAsBytes(Map.of());
+		} catch (JsonProcessingException e) {
+			return new byte[0];
+		}
+	}
+}
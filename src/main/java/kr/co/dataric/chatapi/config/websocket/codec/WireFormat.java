@@ -0,0 +1,49 @@
+package kr.co.dataric.chatapi.config.websocket.codec;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * WebSocket 프레임 형식 (Sec-WebSocket-Protocol 로 협상)
+ * - 클라이언트가 요청한 순서대로 첫 번째 지원 형식이 선택됨
+ * - subprotocol 미요청 / 미지원이면 JSON (기존 클라이언트 그대로)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum WireFormat {
+	
+	JSON("chat.json.v1", WebSocketMessage.Type.TEXT),
+	CBOR("chat.cbor.v1", WebSocketMessage.Type.BINARY);
+	
+	private static final List<String> SUB_PROTOCOLS = Arrays.stream(values()).map(WireFormat::getSubProtocol).toList();
+	
+	private final String subProtocol;
+	private final WebSocketMessage.Type messageType;
+	
+	/**
+	 * WebSocketHandler.getSubProtocols() 응답용
+	 */
+	public static List<String> subProtocols() {
+		return SUB_PROTOCOLS;
+	}
+	
+	/**
+	 * ✅ 세션에서 협상된 형식
+	 */
+	public static WireFormat of(WebSocketSession session) {
+		String negotiated = session.getHandshakeInfo().getSubProtocol();
+		if (negotiated != null) {
+			for (WireFormat format : values()) {
+				if (format.subProtocol.equals(negotiated)) {
+					return format;
+				}
+			}
+		}
+		return JSON;
+	}
+}
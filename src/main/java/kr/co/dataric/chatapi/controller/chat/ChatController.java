@@ -1,14 +1,19 @@
 package kr.co.dataric.chatapi.controller.chat;
 
+import kr.co.dataric.chatapi.cache.UnreadCountIndex;
 import kr.co.dataric.chatapi.service.ChatService;
 import kr.co.dataric.chatapi.service.impl.ChatRoomOnlineService;
-import kr.co.dataric.common.entity.ChatMessage;
+import kr.co.dataric.common.dto.ChatMessageDTO;
 import kr.co.dataric.common.jwt.provider.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -18,14 +23,65 @@ public class ChatController {
 	private final ChatService chatService;
 	private final JwtProvider jwtProvider;
 	private final ChatRoomOnlineService chatRoomOnlineService;
+	private final UnreadCountIndex unreadCountIndex;
+	
+	private static final int MAX_HISTORY_LIMIT = 100;
 	
+	/**
+	 * 채팅 히스토리 조회
+	 * - beforeSeq / afterSeq          : seq 커서 (최신순 / 오래된순, 빈 번호 확인 시 afterSeq 사용)
+	 * - beforeTimestamp(+beforeMsgId) : 커서 이전 메시지 (최신순)
+	 * - afterTimestamp(+afterMsgId)   : 커서 이후 메시지 (오래된순)
+	 * - 커서 없음 : 최신 페이지 (offset 은 하위 호환용)
+	 */
 	@GetMapping("/history")
-	public Flux<ChatMessage> getChatHistory(
+	public Flux<ChatMessageDTO> getChatHistory(
 		@RequestParam String roomId,
-		@RequestParam int offset,
+		@RequestParam(required = false) Long beforeSeq,
+		@RequestParam(required = false) Long afterSeq,
+		@RequestParam(required = false) String beforeMsgId,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeTimestamp,
+		@RequestParam(required = false) String afterMsgId,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterTimestamp,
+		@RequestParam(defaultValue = "0") int offset,
 		@RequestParam(defaultValue = "30") int limit
 	) {
-		return chatService.getMessagesByRoom(roomId, offset, limit);
+		int size = Math.max(1, Math.min(limit, MAX_HISTORY_LIMIT));
+		
+		if (beforeSeq != null) {
+			return withUnreadCounts(roomId, chatService.getMessagesBeforeSeq(roomId, beforeSeq, size).map(ChatMessageDTO::from));
+		}
+		if (afterSeq != null) {
+			return withUnreadCounts(roomId, chatService.getMessagesAfterSeq(roomId, afterSeq, size).map(ChatMessageDTO::from));
+		}
+		return withUnreadCounts(roomId, findHistoryPage(roomId, beforeMsgId, beforeTimestamp, afterMsgId, afterTimestamp, offset, size));
+	}
+	
+	private Flux<ChatMessageDTO> findHistoryPage(String roomId, String beforeMsgId, LocalDateTime beforeTimestamp,
+																							 String afterMsgId, LocalDateTime afterTimestamp, int offset, int size) {
+		if (beforeTimestamp != null) {
+			return chatService.getMessagesBefore(roomId, beforeTimestamp, beforeMsgId, size).map(ChatMessageDTO::from);
+		}
+		if (afterTimestamp != null) {
+			return chatService.getMessagesAfter(roomId, afterTimestamp, afterMsgId, size).map(ChatMessageDTO::from);
+		}
+		if (offset == 0) {
+			// 첫 페이지는 최근 메시지 링 버퍼에서 응답 (최신순으로 뒤집어서 반환)
+			return chatService.getRecentMessages(roomId, size)
+				.collectList()
+				.flatMapMany(list -> {
+					Collections.reverse(list);
+					return Flux.fromIterable(list);
+				});
+		}
+		return chatService.getMessagesByRoom(roomId, offset, size).map(ChatMessageDTO::from);
+	}
+	
+	// ✅ 페이지 단위로 안 읽은 인원 수 부여
+	private Flux<ChatMessageDTO> withUnreadCounts(String roomId, Flux<ChatMessageDTO> page) {
+		return page.collectList()
+			.flatMap(list -> unreadCountIndex.annotate(roomId, list))
+			.flatMapMany(Flux::fromIterable);
 	}
 
 }
@@ -1,20 +1,21 @@
 package kr.co.dataric.chatapi.controller.chat;
 
 import kr.co.dataric.chatapi.dto.request.view.ViewRequestDto;
+import kr.co.dataric.chatapi.service.impl.LastReadStore;
+import kr.co.dataric.chatapi.service.impl.PresenceStatusService;
 import kr.co.dataric.common.jwt.provider.JwtProvider;
 import kr.co.dataric.common.redis.service.RedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.result.view.Rendering;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 
 
 @Slf4j
@@ -24,6 +25,7 @@ public class ChatViewController {
 	
 	private final JwtProvider jwtProvider;
 	private final ReactiveRedisTemplate<String, String> redisTemplate;
+	private final LastReadStore lastReadStore;
 	
 	@PostMapping("/view/chatView")
 	public Mono<Rendering> enterChatView(
@@ -37,24 +39,20 @@ public class ChatViewController {
 			return Mono.just(Rendering.redirectTo("/login").build());
 		}
 		
-		String redisKey = "online:" +viewRequestDto.getRoomId() +":" +userId;
+		String redisKey = PresenceStatusService.onlineKey(roomId, userId);
 		
 		redisTemplate.opsForValue()
 			.set(redisKey, "online", Duration.ofMinutes(30)) // TTL로 누락 방지
 			.doOnSuccess(res -> log.info("입장 시 online 처리: {}", redisKey))
 			.subscribe();
-
-		String keyPattern = "last_read:" + roomId +":*";
 		
-		Mono<Map<String, String>> lastReadMono = redisTemplate.scan(ScanOptions.scanOptions().match(keyPattern).count(100).build())
-			.flatMap(key -> redisTemplate.opsForValue().get(key)
-				.filter(Objects::nonNull) // null 방지
-				.map(value -> {
-					String[] parts = key.split(":"); // key 기준으로 split 해야함
-					String uid = parts.length >= 3 ? parts[2] : "unknown"; // userId 위치
-					return Map.entry(uid, value);
-				})) // userId 추출
-			.collectMap(Map.Entry::getKey, Map.Entry::getValue);
+		// ✅ 방 전체 last-read : HGETALL 1회 (userId -> {msgId, timestamp, seq}, 클라이언트는 seq 로 비교)
+		Mono<Map<String, Map<String, String>>> lastReadMono = lastReadStore.getAll(roomId)
+			.map(markers -> {
+				Map<String, Map<String, String>> entries = new HashMap<>(markers.size());
+				markers.forEach((uid, marker) -> entries.put(uid, marker.toReadEntry(uid)));
+				return entries;
+			});
 		
 		return lastReadMono.map(lastReadMap ->
 			Rendering.view("chat/chatView")
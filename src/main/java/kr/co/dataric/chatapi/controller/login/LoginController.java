@@ -2,12 +2,14 @@ package kr.co.dataric.chatapi.controller.login;
 
 import kr.co.dataric.chatapi.dto.request.login.LoginRequest;
 import kr.co.dataric.chatapi.repository.user.UserRepository;
+import kr.co.dataric.chatapi.service.impl.PasswordVerifyService;
+import kr.co.dataric.common.jwt.entity.TokenClaims;
 import kr.co.dataric.common.jwt.provider.JwtProvider;
 import kr.co.dataric.common.redis.service.RedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.result.view.Rendering;
@@ -24,7 +26,7 @@ public class LoginController {
 	private final UserRepository userRepository;
 	private final JwtProvider jwtProvider;
 	private final RedisService redisService;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordVerifyService passwordVerifyService;
 	
 	@GetMapping("/favicon.ico")
 	public Mono<Void> favicon() {
@@ -48,17 +50,16 @@ public class LoginController {
 																	 @CookieValue(name = "refreshToken", required = false) String refreshToken,
 																	 ServerWebExchange exchange) {
 		// 1. AccessToken 유효한 경우 -> 바로 /view/ChatListView 이동
-		if (accessToken != null && !jwtProvider.isTokenExpired(accessToken)) {
-			String userId = jwtProvider.extractUserId(accessToken);
-			if (userId != null) {
-				return Mono.just(Rendering.redirectTo("/view/chatListView").build());
-			}
+		TokenClaims accessClaims = jwtProvider.parse(accessToken);
+		if (accessClaims != null && !accessClaims.isExpired() && accessClaims.getSubject() != null) {
+			return Mono.just(Rendering.redirectTo("/view/chatListView").build());
 		}
 		
 		// 2. AccessToken 만료 or 없음 -> refreshToken 검사
-		if (refreshToken != null) {
-			String userId = jwtProvider.extractUserIdIgnoreExpiration(refreshToken);
-			if (userId != null && !jwtProvider.isTokenExpired(refreshToken)) {
+		TokenClaims refreshClaims = jwtProvider.parse(refreshToken);
+		if (refreshClaims != null) {
+			String userId = refreshClaims.getSubject();
+			if (userId != null && !refreshClaims.isExpired()) {
 				return redisService.getRefreshToken(userId)
 					.filter(saved -> saved.equals(refreshToken))
 					.flatMap(valid -> {
@@ -89,8 +90,9 @@ public class LoginController {
 		String password = loginRequest.getPassword();
 		
 		return userRepository.findByUsername(username)
-			.flatMap(user -> {
-				if (!passwordEncoder.matches(password, user.getPassword())) {
+			.flatMap(user -> passwordVerifyService.matches(password, user.getPassword()))
+			.flatMap(matched -> {
+				if (!matched) {
 					log.warn("❌ Login Failed - 잘못된 비밀번호");
 					return Mono.just(Rendering.redirectTo("/login?code=wrongPs").build());
 				}
@@ -125,6 +127,12 @@ public class LoginController {
 			.switchIfEmpty(Mono.defer(() -> {
 				log.warn("❌ Login Failed - 존재하지 않는 사용자");
 				return Mono.just(Rendering.redirectTo("/login?code=loginFail").build());
-			}));
+			}))
+			.onErrorResume(PasswordVerifyService.PasswordHashBusyException.class, e -> {
+				// 검증 대기열 초과 → 즉시 거절 + 재시도 힌트
+				return Mono.just(Rendering.redirectTo("/login?code=busy")
+					.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+					.build());
+			});
 	}
 }
@@ -16,6 +16,7 @@ public class StatusRequestDto {
 	private String lastRead;
 	private String msgId;
 	private String timestamp;
+	private Long seq;
 	private String status;
 	private List<String> participants;
 	
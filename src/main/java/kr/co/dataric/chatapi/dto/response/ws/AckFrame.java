@@ -0,0 +1,27 @@
+package kr.co.dataric.chatapi.dto.response.ws;
+
+import kr.co.dataric.common.dto.ChatMessageDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * /ws/chat 보낸 사람 전용 수락 결과 프레임 {"type":"ack", roomId, msgId, seq, timestamp, accepted}
+ * - accepted=false 이면 해당 seq 는 방에 전달되지 않음 (방 세션에는 SeqSkipFrame 전송)
+ */
+@Getter
+@AllArgsConstructor
+public class AckFrame {
+	
+	private final String type = "ack";
+	private final String roomId;
+	private final String msgId;
+	private final Long seq;
+	private final LocalDateTime timestamp;
+	private final boolean accepted;
+	
+	public static AckFrame of(ChatMessageDTO message, boolean accepted) {
+		return new AckFrame(message.getRoomId(), message.getId(), message.getSeq(), message.getTimestamp(), accepted);
+	}
+}
@@ -0,0 +1,25 @@
+package kr.co.dataric.chatapi.dto.response.ws;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /ws/rs 읽음 목록 프레임 {"type":"readList", roomId, delta, readList}
+ * - delta=false : 입장 시 전체 목록, delta=true : 변경된 유저만
+ */
+@Getter
+@AllArgsConstructor
+public class ReadListFrame {
+	
+	private final String type = "readList";
+	private final String roomId;
+	private final boolean delta;
+	private final List<Map<String, String>> readList;
+	
+	public static ReadListFrame of(String roomId, List<Map<String, String>> readList, boolean delta) {
+		return new ReadListFrame(roomId, delta, readList);
+	}
+}
@@ -0,0 +1,23 @@
+package kr.co.dataric.chatapi.dto.response.ws;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * /ws/chat 방 전체 빈 번호 프레임 {"type":"skipSeq", roomId, seq}
+ * - seq 는 수락 전에 발급 (WAL / Kafka 레코드에 seq 포함) → 수락 실패 메시지의 seq 는 영구 결번
+ * - 수락 실패 시 로컬 방 세션에 전송 → 클라이언트는 해당 seq 를 기다리지 않음
+ * - 다른 노드 세션 (BROADCAST 모드) / ring 변경으로 버린 예약 구간은 skipSeq 없음 → 히스토리 afterSeq 로 확인
+ */
+@Getter
+@AllArgsConstructor
+public class SeqSkipFrame {
+	
+	private final String type = "skipSeq";
+	private final String roomId;
+	private final long seq;
+	
+	public static SeqSkipFrame of(String roomId, long seq) {
+		return new SeqSkipFrame(roomId, seq);
+	}
+}
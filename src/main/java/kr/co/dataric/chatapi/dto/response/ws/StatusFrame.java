@@ -0,0 +1,21 @@
+package kr.co.dataric.chatapi.dto.response.ws;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * /ws/rs 상태 변경 프레임 {"type":"status", userId, status, roomId}
+ */
+@Getter
+@AllArgsConstructor
+public class StatusFrame {
+	
+	private final String type = "status";
+	private final String userId;
+	private final String status;
+	private final String roomId;
+	
+	public static StatusFrame of(String roomId, String userId, String status) {
+		return new StatusFrame(userId, status, roomId);
+	}
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Document(collection = "chat_room_last_read")
@@ -23,4 +24,7 @@ public class ChatRoomLastRead {
 	
 	private Map<String, String> lastReadMap; // userId -. lastMessageId
 	
+	private Map<String, LocalDateTime> lastReadAt; // userId -> 마지막 읽은 메시지 시각 (역행 방지용)
+	private Map<String, Long> lastReadSeq;         // userId -> 마지막 읽은 메시지 seq (있으면 역행 방지 기준)
+	
 }
@@ -0,0 +1,60 @@
+package kr.co.dataric.chatapi.filter.cluster;
+
+import kr.co.dataric.chatapi.config.cluster.ClusterMember;
+import kr.co.dataric.chatapi.config.cluster.RoomAffinityRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * AFFINITY 모드: 담당 노드가 아닌 곳으로 들어온 방 WebSocket 업그레이드 요청을 담당 노드로 redirect
+ * - Location + X-Chat-Room-Owner 헤더로 gateway / 클라이언트가 재연결할 수 있게 함
+ * - Security 필터 체인(-100) 보다 먼저 실행
+ */
+@Slf4j
+@Component
+@Order(-200)
+@RequiredArgsConstructor
+public class RoomAffinityFilter implements WebFilter {
+	
+	public static final String OWNER_HEADER = "X-Chat-Room-Owner";
+	
+	private final RoomAffinityRouter roomAffinityRouter;
+	
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		if (!roomAffinityRouter.isAffinityMode()) {
+			return chain.filter(exchange);
+		}
+		
+		String path = exchange.getRequest().getURI().getPath();
+		if (!path.startsWith("/ws/chat/") && !path.startsWith("/ws/rs/")) {
+			return chain.filter(exchange);
+		}
+		
+		String roomId = path.substring(path.lastIndexOf('/') + 1);
+		if (roomId.isBlank() || roomAffinityRouter.isLocal(roomId)) {
+			return chain.filter(exchange);
+		}
+		
+		ClusterMember owner = roomAffinityRouter.ownerOf(roomId);
+		log.info("↪️ 방 담당 노드로 redirect - roomId: {}, owner: {}", roomId, owner.getNodeId());
+		
+		exchange.getResponse().setStatusCode(HttpStatus.TEMPORARY_REDIRECT);
+		exchange.getResponse().getHeaders().set(OWNER_HEADER, owner.getNodeId());
+		if (owner.getAddress() != null) {
+			String query = exchange.getRequest().getURI().getRawQuery();
+			exchange.getResponse().getHeaders().setLocation(
+				URI.create(owner.getAddress() + path + (query != null ? "?" + query : "")));
+		}
+		return exchange.getResponse().setComplete();
+	}
+}
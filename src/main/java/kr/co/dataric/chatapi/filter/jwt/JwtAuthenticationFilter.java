@@ -1,5 +1,6 @@
 package kr.co.dataric.chatapi.filter.jwt;
 
+import kr.co.dataric.common.jwt.entity.TokenClaims;
 import kr.co.dataric.common.jwt.provider.JwtProvider;
 import kr.co.dataric.common.redis.service.RedisService;
 import lombok.RequiredArgsConstructor;
@@ -40,14 +41,16 @@ public class JwtAuthenticationFilter implements WebFilter {
 		String accessToken = accessTokenCookie != null ? accessTokenCookie.getValue() : null;
 		String refreshToken = refreshTokenCookie != null ? refreshTokenCookie.getValue() : null;
 		
+		// 토큰별 검증은 1회만 (subject + 만료 시각 동시 추출)
+		TokenClaims accessClaims = jwtProvider.parse(accessToken);
+		
 		// accessToken이 없거나 만료되었을 경우
-		if (accessToken == null || jwtProvider.isTokenExpired(accessToken)) {
-			String userId = null;
-			if (accessToken != null) {
-				userId = jwtProvider.extractUserIdIgnoreExpiration(accessToken);
-			}
-			if (userId == null && refreshToken != null) {
-				userId = jwtProvider.extractUserIdIgnoreExpiration(refreshToken);
+		if (accessClaims == null || accessClaims.isExpired()) {
+			TokenClaims refreshClaims = jwtProvider.parse(refreshToken);
+			
+			String userId = accessClaims != null ? accessClaims.getSubject() : null;
+			if (userId == null && refreshClaims != null) {
+				userId = refreshClaims.getSubject();
 			}
 			
 			if (userId == null) {
@@ -59,7 +62,7 @@ public class JwtAuthenticationFilter implements WebFilter {
 			String finalUserId = userId;
 			return redisService.getRefreshToken(userId)
 				.filter(saved -> saved.equals(refreshToken))
-				.filter(valid -> !jwtProvider.isTokenExpired(refreshToken))
+				.filter(valid -> refreshClaims != null && !refreshClaims.isExpired())
 				.flatMap(valid -> {
 					String newAccessToken = jwtProvider.createAccessToken(finalUserId);
 					log.info("🔁 AccessToken 재발급 - userId: {}", finalUserId);
@@ -71,16 +74,15 @@ public class JwtAuthenticationFilter implements WebFilter {
 						.build();
 					exchange.getResponse().addCookie(newAccessCookie);
 					
-					return authenticate(exchange, chain, newAccessToken);
+					return authenticate(exchange, chain, finalUserId);
 				})
 				.switchIfEmpty(unauthorized(exchange, "❌ refreshToken 불일치 또는 만료"));
 		}
 		
-		return authenticate(exchange, chain, accessToken);
+		return authenticate(exchange, chain, accessClaims.getSubject());
 	}
 	
-	private Mono<Void> authenticate(ServerWebExchange exchange, WebFilterChain chain, String token) {
-		String userId = jwtProvider.extractUserId(token);
+	private Mono<Void> authenticate(ServerWebExchange exchange, WebFilterChain chain, String userId) {
 		if (userId == null) {
 			return unauthorized(exchange, "❌ accessToken → userId 추출 실패");
 		}
@@ -1,46 +1,84 @@
 package kr.co.dataric.chatapi.handler;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.co.dataric.chatapi.cache.RecentMessageCache;
+import kr.co.dataric.chatapi.cache.UnreadCountIndex;
+import kr.co.dataric.chatapi.config.cluster.RoomMovedException;
+import kr.co.dataric.chatapi.config.kafka.ChatPublishProperties;
 import kr.co.dataric.chatapi.config.sink.ChatSinkManager;
-import kr.co.dataric.chatapi.kafka.producer.KafkaChatProducer;
+import kr.co.dataric.chatapi.config.sink.OutboundQueue;
+import kr.co.dataric.chatapi.config.sink.SharedFrame;
+import kr.co.dataric.chatapi.config.websocket.codec.FrameCodecRegistry;
+import kr.co.dataric.chatapi.config.websocket.codec.WireFormat;
+import kr.co.dataric.chatapi.dto.response.ws.AckFrame;
+import kr.co.dataric.chatapi.dto.response.ws.SeqSkipFrame;
+import kr.co.dataric.chatapi.handler.codec.ChatFrameDecoder;
+import kr.co.dataric.chatapi.handler.codec.InboundChatFrame;
+import kr.co.dataric.chatapi.kafka.producer.RoomUpdateCoalescer;
 import kr.co.dataric.chatapi.repository.room.CustomChatRoomRepository;
 import kr.co.dataric.chatapi.service.ChatService;
+import kr.co.dataric.chatapi.service.impl.ChatIngestService;
+import kr.co.dataric.chatapi.service.impl.RoomSequenceService;
 import kr.co.dataric.chatapi.service.impl.ChatRoomLastReadService;
 import kr.co.dataric.chatapi.service.impl.ChatRoomOnlineService;
+import kr.co.dataric.chatapi.service.impl.UnreadBadgeService;
+import kr.co.dataric.common.dto.ChatEnvelope;
 import kr.co.dataric.common.dto.ChatMessageDTO;
-import kr.co.dataric.common.dto.ChatRoomRedisDto;
-import kr.co.dataric.common.entity.ChatMessage;
 import kr.co.dataric.common.jwt.provider.JwtProvider;
 import kr.co.dataric.common.redis.service.RedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
 import org.springframework.web.reactive.socket.WebSocketHandler;
 import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.*;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ChatWebSocketHandler implements WebSocketHandler {
 	
-	private final ObjectMapper objectMapper;
+	private final ChatFrameDecoder chatFrameDecoder;
+	private final FrameCodecRegistry frameCodecRegistry;
 	private final ChatSinkManager chatSinkManager;
 	private final ChatService chatService;
-	private final KafkaChatProducer kafkaChatProducer;
+	private final ChatIngestService chatIngestService;
+	private final RoomSequenceService roomSequenceService;
+	private final RoomUpdateCoalescer roomUpdateCoalescer;
 	private final CustomChatRoomRepository customChatRoomRepository;
 	private final ChatRoomLastReadService chatRoomLastReadService;
 	private final ChatRoomOnlineService chatRoomOnlineService;
 	private final HandlerSupport handlerSupport;
+	private final RecentMessageCache recentMessageCache;
+	private final UnreadCountIndex unreadCountIndex;
+	private final UnreadBadgeService unreadBadgeService;
+	private final ChatPublishProperties chatPublishProperties;
+	private final MeterRegistry meterRegistry;
+	
+	private Counter throttledCounter;
+	
+	@PostConstruct
+	public void init() {
+		throttledCounter = Counter.builder("chat.ws.receive.throttled")
+			.description("세션 in-flight 상한 도달로 수신을 멈춘 횟수")
+			.register(meterRegistry);
+	}
+	
+	@Override
+	public List<String> getSubProtocols() {
+		return WireFormat.subProtocols();
+	}
 	
 	@Override
 	public Mono<Void> handle(WebSocketSession session) {
@@ -52,79 +90,117 @@ public class ChatWebSocketHandler implements WebSocketHandler {
 			return session.close();
 		}
 		
-		Sinks.Many<ChatMessageDTO> sink = chatSinkManager.register(roomId, userId);
+		OutboundQueue<SharedFrame> sink = chatSinkManager.register(roomId, session.getId(), userId);
+		WireFormat format = WireFormat.of(session);
+		chatRoomOnlineService.addUserToOnline(roomId, userId);
 		
 		// ✅ 이전 메시지 초기 전송
-		chatService.getMessagesByRoom(roomId, 0, 30)
-			.sort(Comparator.comparing(ChatMessage::getTimestamp))
-			.map(handlerSupport::toDto)
-			.doOnNext(sink::tryEmitNext)
+		chatService.getRecentMessages(roomId, 30)
+			.collectList()
+			.flatMap(list -> unreadCountIndex.annotate(roomId, list))
+			.doOnNext(list -> list.forEach(dto -> chatSinkManager.emit(sink, dto)))
 			.subscribe();
 		
+		// 세션 전용 수신 프레임 (receive 는 순차 처리 → 매 프레임 재사용)
+		InboundChatFrame inbound = new InboundChatFrame();
+		
+		// 수락 대기 메시지가 상한에 도달하면 flatMapSequential 이 추가 request 를 멈춤 → 소켓 읽기 중지 (버퍼링 없음)
+		int maxInFlight = chatPublishProperties.getMaxInFlightPerSession();
+		AtomicInteger inFlight = new AtomicInteger();
+		
 		Mono<Void> input = session.receive()
-			.map(WebSocketMessage::getPayloadAsText)
-			.flatMap(payload -> {
+			.flatMapSequential(payload -> {
 				try {
-					JsonNode json = objectMapper.readTree(payload);
-					String msgId = Optional.ofNullable(json.get("msgId")).map(JsonNode::asText).orElse(UUID.randomUUID().toString());
-					String message = Optional.ofNullable(json.get("message")).map(JsonNode::asText).orElse(null);
-					if (message == null || message.isBlank()) return Mono.empty();
-					
-					ChatMessage msg = objectMapper.treeToValue(json, ChatMessage.class);
-					msg.setMsgId(msgId);
-					msg.setSender(userId);
-					msg.setRoomId(roomId);
-					msg.setMessage(message);
-					msg.setTimestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
-					
-					// ✅ 참여자 추출
-					List<String> userIdsList = new ArrayList<>();
-					JsonNode inUserNode = json.get("participants");
-					if (inUserNode != null && inUserNode.isArray()) {
-						inUserNode.forEach(u -> userIdsList.add(u.asText()));
-					}
+					chatFrameDecoder.decode(payload.getPayload(), inbound, format);
+				} catch (ChatFrameDecoder.FrameLimitException e) {
+					log.warn("❌ WebSocket 수신 프레임 제한 초과 - roomId: {}, userId: {}, {}", roomId, userId, e.getMessage());
+					return Mono.empty();
+				} catch (Exception e) {
+					log.error("❌ WebSocket 수신 메시지 파싱 실패 - roomId: {}, userId: {}, error: {}", roomId, userId, e.toString());
+					return Mono.empty();
+				}
+				
+				String message = inbound.getMessage();
+				if (message == null || message.isBlank()) return Mono.empty();
+				
+				try {
+					// ✅ 참여자 (Kafka / 비동기 처리에 넘기므로 복사본 사용)
+					List<String> userIdsList = inbound.participantsCopy();
 					
-					if ("true".equals(Optional.ofNullable(json.get("isNewRoomMsg")).map(JsonNode::asText).orElse("false"))) {
+					if (inbound.isNewRoomMsg()) {
 						customChatRoomRepository.createNewChatRoom(roomId, userIdsList).subscribe();
 					}
 					
-					log.info("userIdsList :: {}", userIdsList);
-					
-					// WebSocket Sink 즉시 전송
-					ChatMessageDTO dto = handlerSupport.toDto(msg);
-					sink.tryEmitNext(dto);
+					log.debug("userIdsList :: {}", userIdsList);
 					
-					// Kafka는 후속 분산 처리용으로 전송 (메시지 전송 및 메시지 저장)
-					kafkaChatProducer.sendMessage(msg, userIdsList);
-					
-					// Kafka 후속 분산 처리 - (ChatRoom Last 처리)
-					// ✅ Redis용 ChatRoomDto Kafka 전송
-					kafkaChatProducer.updateChatRoom(ChatRoomRedisDto.builder()
+					ChatMessageDTO dto = ChatMessageDTO.builder()
+						.id(inbound.getMsgId() != null ? inbound.getMsgId() : UUID.randomUUID().toString())
 						.roomId(roomId)
-						.lastMessage(message)
-						.lastSender(userId)
-						.lastMessageTime(msg.getTimestamp())
+						.sender(userId)
+						.message(message)
+						.timestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
 						.participants(userIdsList)
-						.build());
+						.build();
 					
-					return Mono.empty();
+					// ✅ 수락 (WAL fsync 또는 Kafka ack) 까지 이 세션의 in-flight 슬롯 1개 점유
+					if (inFlight.incrementAndGet() >= maxInFlight) {
+						throttledCounter.increment();
+					}
+					return roomSequenceService.next(roomId)
+						.flatMap(seq -> {
+							// ✅ 메시지 1건당 envelope 1개 (seq 포함 정본 JSON 1회 인코딩 → 로컬 전송 / Kafka / 방 갱신 공유)
+							dto.setSeq(seq);
+							ChatEnvelope envelope = frameCodecRegistry.envelope(dto);
+							return chatIngestService.accept(envelope).thenReturn(envelope);
+						})
+						.onErrorResume(e -> {
+							log.warn("❗ 채팅 수락 실패 - roomId: {}, msgId: {}, seq: {}, error: {}", roomId, dto.getId(), dto.getSeq(), e.toString());
+							sink.offer(frameCodecRegistry.frame(AckFrame.of(dto, false)));
+							// 발급된 seq 는 재사용하지 않음 → 방 세션에 결번 알림
+							if (dto.getSeq() != null) {
+								chatSinkManager.emitToRoom(roomId, SeqSkipFrame.of(roomId, dto.getSeq()));
+							}
+							return Mono.empty();
+						})
+						.doFinally(signal -> inFlight.decrementAndGet());
 				} catch (Exception e) {
-					log.error("❌ WebSocket 수신 메시지 파싱 실패 - payload: {}", payload, e);
+					log.error("❌ WebSocket 수신 메시지 처리 실패 - roomId: {}, userId: {}", roomId, userId, e);
 					return Mono.empty();
 				}
+			}, maxInFlight)
+			// 수락된 메시지만 세션 수신 순서대로 반영
+			.doOnNext(envelope -> {
+				// ✅ 보낸 사람에게 seq 전달 (클라이언트 pending 메시지 확정)
+				sink.offer(frameCodecRegistry.frame(AckFrame.of(envelope.getMessage(), true)));
+				
+				// WebSocket Sink 전송 (보낸 사람 세션 포함 방 전체 1회)
+				recentMessageCache.append(envelope.getMessage());
+				chatSinkManager.emitToRoom(envelope);
+				
+				// ✅ 참여자별 안 읽은 수 증가 (/ws/notify 로 전달, 대상은 서버의 방 참여자 목록)
+				unreadBadgeService.onMessage(roomId, userId).subscribe();
+				
+				// Kafka 후속 분산 처리 - (ChatRoom Last 처리)
+				// ✅ Redis용 ChatRoomDto Kafka 전송 (방별 최신 1건만 주기 전송)
+				roomUpdateCoalescer.submit(envelope);
 			})
 			.doFinally(signalType -> {
-				chatRoomOnlineService.removeUserFromOnline(roomId, userId).subscribe();
-				chatSinkManager.unregister(roomId, userId, sink);
+				chatRoomOnlineService.removeUserFromOnline(roomId, userId);
+				chatSinkManager.unregister(roomId, session.getId());
 				log.info("📴 Chat WebSocket 종료 - roomId: {}, userId: {}", roomId, userId);
 			})
 			.then();
 		
 		Flux<WebSocketMessage> output = sink.asFlux()
-			.map(handlerSupport::toJson)
-			.map(session::textMessage)
+			.map(frame -> frame.toMessage(session, format))
 			.onErrorResume(ex -> {
 				log.warn("❌ WebSocket 출력 스트림 에러 발생: {}", ex.toString());
+				if (ex instanceof OutboundQueue.SlowConsumerException) {
+					return session.close(CloseStatus.POLICY_VIOLATION).thenMany(Flux.<WebSocketMessage>empty());
+				}
+				if (ex instanceof RoomMovedException) {
+					return session.close(RoomMovedException.CLOSE_STATUS).thenMany(Flux.<WebSocketMessage>empty());
+				}
 				return Flux.empty();
 			});
 		
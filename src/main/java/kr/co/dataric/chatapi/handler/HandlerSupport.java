@@ -8,6 +8,7 @@ import kr.co.dataric.common.entity.ChatMessage;
 import kr.co.dataric.common.jwt.provider.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpCookie;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.socket.WebSocketSession;
 
@@ -28,8 +29,8 @@ public class HandlerSupport {
 	}
 	
 	public String extractUserIdFromCookie(WebSocketSession session) {
-		return session.getHandshakeInfo().getCookies().getFirst("accessToken") != null ?
-			jwtProvider.extractUserId(session.getHandshakeInfo().getCookies().getFirst("accessToken").getValue()) : null;
+		HttpCookie accessToken = session.getHandshakeInfo().getCookies().getFirst("accessToken");
+		return accessToken != null ? jwtProvider.extractUserId(accessToken.getValue()) : null;
 	}
 	
 	public String toJson(Object message) {
@@ -42,13 +43,7 @@ public class HandlerSupport {
 	}
 	
 	public ChatMessageDTO toDto(ChatMessage entity) {
-		return ChatMessageDTO.builder()
-			.id(entity.getMsgId())
-			.roomId(entity.getRoomId())
-			.sender(entity.getSender())
-			.message(entity.getMessage())
-			.timestamp(entity.getTimestamp())
-			.build();
+		return ChatMessageDTO.from(entity);
 	}
 	
 	public void forwardReadEvent(String payload, String userId, String roomId) {
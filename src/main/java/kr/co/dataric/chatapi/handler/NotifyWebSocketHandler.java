@@ -1,29 +1,67 @@
 package kr.co.dataric.chatapi.handler;
 
+import kr.co.dataric.chatapi.config.sink.NotifySinkManager;
+import kr.co.dataric.chatapi.config.sink.OutboundQueue;
+import kr.co.dataric.chatapi.config.sink.UnreadBadgeBroadcaster;
+import kr.co.dataric.chatapi.service.impl.UnreadBadgeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
 import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * 유저 단위 알림 소켓 (/ws/notify)
+ * - 연결 시 전체 방 안 읽은 수 snapshot, 이후 변경된 방만 delta 로 전송
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotifyWebSocketHandler implements WebSocketHandler {
 	
 	private final HandlerSupport handlerSupport;
-
-		@Override
-		public Mono<Void> handle(WebSocketSession session) {
-			String roomId = handlerSupport.extractRoomId(session);
-			String userId = handlerSupport.extractUserIdFromCookie(session);
-			
-			if (userId == null || roomId == null) {
-				log.warn("❌ WebSocket 연결 거부 - userId 또는 roomId 누락");
-				return session.close();
-			}
-			
-			return null;
+	private final NotifySinkManager notifySinkManager;
+	private final UnreadBadgeService unreadBadgeService;
+	private final UnreadBadgeBroadcaster unreadBadgeBroadcaster;
+	
+	@Override
+	public Mono<Void> handle(WebSocketSession session) {
+		String userId = handlerSupport.extractUserIdFromCookie(session);
+		
+		if (userId == null) {
+			log.warn("❌ WebSocket 연결 거부 - userId 누락");
+			return session.close();
+		}
+		
+		OutboundQueue<String> sink = notifySinkManager.register(userId);
+		
+		// ✅ 연결 시 전체 안 읽은 수 전송
+		unreadBadgeService.getAll(userId)
+			.mapNotNull(unreadBadgeBroadcaster::snapshotFrame)
+			.doOnNext(sink::offer)
+			.subscribe();
+		
+		Mono<Void> input = session.receive()
+			.then()
+			.doFinally(signal -> {
+				notifySinkManager.remove(userId, sink);
+				log.info("📴 Notify WebSocket 종료 - userId: {}", userId);
+			});
+		
+		Flux<WebSocketMessage> output = sink.asFlux()
+			.map(session::textMessage)
+			.onErrorResume(e -> {
+				log.warn("❗ 출력 스트림 오류: {}", e.toString());
+				if (e instanceof OutboundQueue.SlowConsumerException) {
+					return session.close(CloseStatus.POLICY_VIOLATION).thenMany(Flux.<WebSocketMessage>empty());
+				}
+				return Flux.empty();
+			});
+		
+		return session.send(output).and(input);
 	}
 }
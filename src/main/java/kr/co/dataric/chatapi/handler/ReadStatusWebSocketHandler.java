@@ -1,22 +1,29 @@
 package kr.co.dataric.chatapi.handler;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.dataric.chatapi.config.cluster.RoomMovedException;
+import kr.co.dataric.chatapi.config.kafka.ChatPublishProperties;
+import kr.co.dataric.chatapi.config.sink.OutboundQueue;
+import kr.co.dataric.chatapi.config.sink.ReadReceiptBroadcaster;
+import kr.co.dataric.chatapi.config.sink.SharedFrame;
 import kr.co.dataric.chatapi.config.sink.StatusSinkManager;
-import kr.co.dataric.chatapi.kafka.producer.ReadEventProducer;
+import kr.co.dataric.chatapi.config.websocket.codec.FrameCodecRegistry;
+import kr.co.dataric.chatapi.config.websocket.codec.WireFormat;
+import kr.co.dataric.chatapi.dto.response.ws.StatusFrame;
+import kr.co.dataric.chatapi.kafka.producer.ReadEventCoalescer;
 import kr.co.dataric.chatapi.service.impl.ChatRoomLastReadService;
+import kr.co.dataric.chatapi.service.impl.LastReadStore;
+import kr.co.dataric.common.dto.LastReadMarker;
 import kr.co.dataric.common.dto.ReadReceiptEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
 import org.springframework.web.reactive.socket.WebSocketHandler;
 import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
 
 import java.util.*;
 
@@ -25,11 +32,19 @@ import java.util.*;
 @RequiredArgsConstructor
 public class ReadStatusWebSocketHandler implements WebSocketHandler {
 	
-	private final ObjectMapper objectMapper;
-	private final ReadEventProducer readEventProducer;
+	private final FrameCodecRegistry frameCodecRegistry;
+	private final ReadEventCoalescer readEventCoalescer;
 	private final StatusSinkManager statusSinkManager;
 	private final ChatRoomLastReadService chatRoomLastReadService;
 	private final HandlerSupport handlerSupport;
+	private final LastReadStore lastReadStore;
+	private final ReadReceiptBroadcaster readReceiptBroadcaster;
+	private final ChatPublishProperties chatPublishProperties;
+	
+	@Override
+	public List<String> getSubProtocols() {
+		return WireFormat.subProtocols();
+	}
 	
 	@Override
 	public Mono<Void> handle(WebSocketSession session) {
@@ -41,58 +56,68 @@ public class ReadStatusWebSocketHandler implements WebSocketHandler {
 			return session.close();
 		}
 		
-		// ✅ Sinks 생성 및 등록 (직접 생성 필요)
-		Sinks.Many<String> sink = Sinks.many().multicast().onBackpressureBuffer();
-		statusSinkManager.getOrCreate(roomId).add(sink);
+		// ✅ 세션 송신 큐 생성 및 등록 (bounded)
+		OutboundQueue<SharedFrame> sink = statusSinkManager.register(roomId);
+		WireFormat format = WireFormat.of(session);
 		
-		log.info("✅ ReadStatus WebSocket 연결 - roomId: {}, userId: {}", roomId, userId);
+		log.info("✅ ReadStatus WebSocket 연결 - roomId: {}, userId: {}, format: {}", roomId, userId, format);
 		
+		// ✅ 입장 시에만 전체 읽음 목록 전송 (이후는 delta)
+		lastReadStore.getAll(roomId)
+			.mapNotNull(markers -> readReceiptBroadcaster.snapshotFrame(roomId, markers))
+			.doOnNext(sink::offer)
+			.subscribe();
+		
+		// 처리 대기 프레임이 상한에 도달하면 추가 request 중지 → 소켓 읽기 중지
 		Mono<Void> input = session.receive()
-			.map(WebSocketMessage::getPayloadAsText)
 			.flatMap(payload -> {
 				try {
-					JsonNode root = objectMapper.readTree(payload);
+					JsonNode root = frameCodecRegistry.readTree(payload.getPayload(), format);
 					List<Mono<Void>> actions = new ArrayList<>();
 					
 					// 1. 읽음 처리
 					if (root.has("msgId") && root.has("participants")) {
-						ReadReceiptEvent readEvent = objectMapper.treeToValue(root, ReadReceiptEvent.class);
+						ReadReceiptEvent readEvent = frameCodecRegistry.treeToValue(root, ReadReceiptEvent.class, format);
 						session.getAttributes().put("lastMessageId", readEvent.getMsgId());
-						actions.add(readEventProducer.sendReadEvent(readEvent));
+						if (readEvent.getMsgId() != null && readEvent.getTimestamp() != null) {
+							actions.add(chatRoomLastReadService.markRead(roomId, userId,
+								new LastReadMarker(readEvent.getMsgId(), readEvent.getTimestamp(), readEvent.getSeq())));
+						}
+						readEvent.setRoomId(roomId);
+						readEvent.setUserId(userId);
+						readEventCoalescer.submit(readEvent);
 					}
 					
 					// 2. 상태 처리
 					if (root.hasNonNull("status")) {
 						String status = root.get("status").asText();
-						String statusJson = objectMapper.writeValueAsString(Map.of(
-							"type", "status",
-							"userId", userId,
-							"status", status,
-							"roomId", roomId
-						));
-						statusSinkManager.get(roomId).forEach(s -> s.tryEmitNext(statusJson));
-						log.info("📢 상태 전파: {}", statusJson);
+						statusSinkManager.emit(roomId, frameCodecRegistry.frame(StatusFrame.of(roomId, userId, status)));
+						log.info("📢 상태 전파 - roomId: {}, userId: {}, status: {}", roomId, userId, status);
 					}
 					
 					return Mono.when(actions);
 				} catch (Exception e) {
-					log.error("❌ WebSocket 메시지 파싱 실패: {}", payload, e);
+					log.error("❌ WebSocket 메시지 파싱 실패 - roomId: {}, userId: {}", roomId, userId, e);
 					return Mono.empty();
 				}
-			})
+			}, chatPublishProperties.getMaxInFlightPerSession())
 			.doFinally(signal -> {
 				statusSinkManager.remove(roomId, sink);
 				
-				chatRoomLastReadService.syncAllLastReadFromRedisToMongo(roomId).subscribe();
-				
 				log.info("❎ WebSocket 연결 종료 - roomId: {}, userId: {}", roomId, userId);
 			})
 			.then();
 		
 		Flux<WebSocketMessage> output = sink.asFlux()
-			.map(session::textMessage)
+			.map(frame -> frame.toMessage(session, format))
 			.onErrorResume(e -> {
 				log.warn("❗ 출력 스트림 오류: {}", e.toString());
+				if (e instanceof OutboundQueue.SlowConsumerException) {
+					return session.close(CloseStatus.POLICY_VIOLATION).thenMany(Flux.<WebSocketMessage>empty());
+				}
+				if (e instanceof RoomMovedException) {
+					return session.close(RoomMovedException.CLOSE_STATUS).thenMany(Flux.<WebSocketMessage>empty());
+				}
 				return Flux.empty();
 			});
 		
@@ -100,56 +125,13 @@ public class ReadStatusWebSocketHandler implements WebSocketHandler {
 	}
 	
 	public void broadcastUserStatus(String roomId, String userId, String status) {
-		Set<Sinks.Many<String>> sinks = statusSinkManager.get(roomId);
-		if (sinks == null || sinks.isEmpty()) {
+		if (statusSinkManager.get(roomId).isEmpty()) {
 			log.debug("⚠️ 상태 브로드캐스트 대상 없음 - roomId: {}", roomId);
 			return;
 		}
 		
-		try {
-			String json = objectMapper.writeValueAsString(Map.of(
-				"type", "status",
-				"userId", userId,
-				"status", status,
-				"roomId", roomId
-			));
-			
-			sinks.forEach(sink -> {
-				Sinks.EmitResult result = sink.tryEmitNext(json);
-				if (result.isFailure()) {
-					log.warn("❗ 상태 메시지 전송 실패: {}, 이유: {}", json, result);
-				}
-			});
-			log.info("📡 상태 브로드캐스트 완료 - roomId: {}, userId: {}, status: {}", roomId, userId, status);
-		} catch (JsonProcessingException e) {
-			log.error("❌ 상태 브로드캐스트 직렬화 실패", e);
-		}
-	}
-	
-	public void broadcastUserRead(String roomId, String userId, List<Map<String, String>> userReadList) {
-		Set<Sinks.Many<String>> sinks = statusSinkManager.getOrCreate(roomId);
-		if (sinks == null || sinks.isEmpty()) {
-			log.debug("⚠️ 읽음 브로드캐스트 대상 없음 - roomId: {}", roomId);
-			return;
-		}
-		
-		try {
-			String json = objectMapper.writeValueAsString(Map.of(
-				"type", "readList",
-				"roomId", roomId,
-				"userId", userId,
-				"readList", userReadList
-			));
-			
-			sinks.forEach(sink -> {
-				Sinks.EmitResult result = sink.tryEmitNext(json);
-				if (result.isFailure()) {
-					log.warn("❗ 읽음 메시지 전송 실패: {}, 이유: {}", json, result);
-				}
-			});
-			log.info("📘 읽음 정보 브로드캐스트 완료 - roomId: {}, 대상: {}명", roomId, sinks.size());
-		} catch (JsonProcessingException e) {
-			log.error("❌ 읽음 브로드캐스트 직렬화 실패", e);
-		}
+		// 형식별 인코딩은 세션들이 공유 (방 단위 1회)
+		statusSinkManager.emit(roomId, frameCodecRegistry.frame(StatusFrame.of(roomId, userId, status)));
+		log.info("📡 상태 브로드캐스트 완료 - roomId: {}, userId: {}, status: {}", roomId, userId, status);
 	}
 }
@@ -3,7 +3,7 @@ package kr.co.dataric.chatapi.handler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co.dataric.chatapi.config.sink.ReadSinkManager;
 import kr.co.dataric.chatapi.config.sink.StatusSinkManager;
-import kr.co.dataric.chatapi.kafka.producer.ReadEventProducer;
+import kr.co.dataric.chatapi.kafka.producer.ReadEventCoalescer;
 import kr.co.dataric.common.dto.ReadReceiptEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +24,7 @@ import java.util.Set;
 public class ReadWebSocketHandler implements WebSocketHandler {
 	
 	private final HandlerSupport handlerSupport;
-	private final ReadEventProducer readEventProducer;
+	private final ReadEventCoalescer readEventCoalescer;
 	private final ReadSinkManager readSinkManager;
 	private final ObjectMapper objectMapper;
 	
@@ -53,7 +53,8 @@ public class ReadWebSocketHandler implements WebSocketHandler {
 					}
 					
 					log.debug("읽음 이벤트 수신: {}", event);
-					return readEventProducer.sendReadEvent(event);
+					readEventCoalescer.submit(event);
+					return Mono.empty();
 				} catch (Exception e) {
 					log.error("Read WebSocket 파싱 오류 - payload: {}", payload, e);
 					return Mono.empty();
@@ -1,15 +1,18 @@
 package kr.co.dataric.chatapi.handler;
 
+import kr.co.dataric.chatapi.config.sink.OutboundQueue;
+import kr.co.dataric.chatapi.config.sink.SharedFrame;
 import kr.co.dataric.chatapi.config.sink.StatusSinkManager;
+import kr.co.dataric.chatapi.config.websocket.codec.FrameCodecRegistry;
+import kr.co.dataric.chatapi.config.websocket.codec.WireFormat;
+import kr.co.dataric.chatapi.dto.response.ws.StatusFrame;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.socket.WebSocketHandler;
 import org.springframework.web.reactive.socket.WebSocketSession;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
 
-import java.util.Map;
 import java.util.Set;
 
 @Slf4j
@@ -19,6 +22,7 @@ public class StatusWebSocketHandler_back implements WebSocketHandler {
 	
 	private final StatusSinkManager statusSinkManager;
 	private final HandlerSupport handlerSupport;
+	private final FrameCodecRegistry frameCodecRegistry;
 	
 	@Override
 	public Mono<Void> handle(WebSocketSession session) {
@@ -32,38 +36,24 @@ public class StatusWebSocketHandler_back implements WebSocketHandler {
 		
 		log.info("상태 WebSocket 연결됨 - roomId: {}, userId: {}", roomId, userId);
 		
-		Sinks.Many<String> sink = Sinks.many().multicast().onBackpressureBuffer();
-		statusSinkManager.register(roomId, sink);
+		OutboundQueue<SharedFrame> sink = statusSinkManager.register(roomId);
 		
 		// 상태 정보 전송
-		Map<String, Object> statusPayload = Map.of(
-			"type", "status",
-			"userId", userId,
-			"status", "online",
-			"roomId", roomId
-		);
+		sink.offer(frameCodecRegistry.frame(StatusFrame.of(roomId, userId, "online")));
 		
-		String statusJson = handlerSupport.toJson(statusPayload);
-		sink.tryEmitNext(statusJson);
-		
-		Mono<Void> output = session.send(sink.asFlux().map(session::textMessage));
+		Mono<Void> output = session.send(sink.asFlux().map(frame -> frame.toMessage(session, WireFormat.JSON)));
 		
 		Mono<Void> onClose = session.receive().then()
 			.doFinally(signal -> {
 				log.info("❎ 상태 WebSocket 종료 - roomId: {}, userId: {}", roomId, userId);
 				statusSinkManager.remove(roomId, sink);
 				
-				String offlineJson = handlerSupport.toJson(Map.of(
-					"type", "status",
-					"userId", userId,
-					"status", "offline",
-					"roomId", roomId
-				));
+				SharedFrame offline = frameCodecRegistry.frame(StatusFrame.of(roomId, userId, "offline"));
 				// 나머지 사용자에게 broadcast
-				Set<Sinks.Many<String>> sinks = statusSinkManager.get(roomId);
+				Set<OutboundQueue<SharedFrame>> sinks = statusSinkManager.get(roomId);
 				if (sinks != null) {
-					for (Sinks.Many<String> otherSink : sinks) {
-						otherSink.tryEmitNext(offlineJson);
+					for (OutboundQueue<SharedFrame> otherSink : sinks) {
+						otherSink.offer(offline);
 					}
 				}
 			});
@@ -72,15 +62,11 @@ public class StatusWebSocketHandler_back implements WebSocketHandler {
 	}
 	
 	public void broadcastUserStatus(String roomId, String userId, String status) {
-		Set<Sinks.Many<String>> sinks = statusSinkManager.get(roomId);
+		Set<OutboundQueue<SharedFrame>> sinks = statusSinkManager.get(roomId);
 		if (sinks != null) {
-			for (Sinks.Many<String> sink : sinks) {
-				String json = handlerSupport.toJson(Map.of(
-					"type", "status",
-					"userId", userId,
-					"status", status
-				));
-				sink.tryEmitNext(json);
+			SharedFrame frame = frameCodecRegistry.frame(StatusFrame.of(roomId, userId, status));
+			for (OutboundQueue<SharedFrame> sink : sinks) {
+				sink.offer(frame);
 			}
 		}
 	}
@@ -0,0 +1,111 @@
+package kr.co.dataric.chatapi.handler.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import kr.co.dataric.chatapi.config.websocket.InboundFrameProperties;
+import kr.co.dataric.chatapi.config.websocket.codec.WireFormat;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * /ws/chat 수신 프레임 streaming 디코더
+ * - JsonNode 트리 / 엔티티 변환 없이 토큰을 한 번만 읽어 InboundChatFrame 에 채움
+ * - 프레임 크기는 파싱 전에, 필드 길이 / 참여자 수는 읽는 중에 검사 (초과 시 FrameLimitException)
+ * - 모르는 필드는 값 생성 없이 skip
+ */
+@Component
+public class ChatFrameDecoder {
+	
+	private final InboundFrameProperties properties;
+	private final Map<WireFormat, JsonFactory> factories = new EnumMap<>(WireFormat.class);
+	
+	public ChatFrameDecoder(InboundFrameProperties properties) {
+		this.properties = properties;
+		
+		StreamReadConstraints constraints = StreamReadConstraints.builder()
+			.maxStringLength(Math.max(properties.getMaxMessageLength(), properties.getMaxIdLength()))
+			.maxNestingDepth(8)
+			.build();
+		factories.put(WireFormat.JSON, JsonFactory.builder().streamReadConstraints(constraints).build());
+		factories.put(WireFormat.CBOR, CBORFactory.builder().streamReadConstraints(constraints).build());
+	}
+	
+	/**
+	 * ✅ 프레임 디코딩 (target 은 초기화 후 채움, JSON / CBOR 동일한 토큰 루프)
+	 */
+	public void decode(DataBuffer payload, InboundChatFrame target, WireFormat format) throws IOException {
+		int size = payload.readableByteCount();
+		if (size > properties.getMaxFrameSize().toBytes()) {
+			throw new FrameLimitException("frame", size);
+		}
+		
+		target.reset();
+		try (JsonParser parser = factories.get(format).createParser(payload.asInputStream())) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JsonParseException(parser, "JSON object 가 아닌 프레임");
+			}
+			
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken token = parser.nextToken();
+				switch (field) {
+					case "msgId" -> target.msgId = readText(parser, token, field, properties.getMaxIdLength());
+					case "message" -> target.message = readText(parser, token, field, properties.getMaxMessageLength());
+					case "isNewRoomMsg" -> target.newRoomMsg = token == JsonToken.VALUE_TRUE
+						|| (token == JsonToken.VALUE_STRING && "true".equals(parser.getText()));
+					case "participants" -> readParticipants(parser, token, target);
+					default -> parser.skipChildren();
+				}
+			}
+		}
+	}
+	
+	private String readText(JsonParser parser, JsonToken token, String field, int maxLength) throws IOException {
+		if (token == null || token == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		if (token.isStructStart()) {
+			parser.skipChildren();
+			return null;
+		}
+		if (parser.getTextLength() > maxLength) {
+			throw new FrameLimitException(field, parser.getTextLength());
+		}
+		return parser.getText();
+	}
+	
+	private void readParticipants(JsonParser parser, JsonToken token, InboundChatFrame target) throws IOException {
+		if (token != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return;
+		}
+		
+		JsonToken item;
+		while ((item = parser.nextToken()) != JsonToken.END_ARRAY && item != null) {
+			if (target.participants.size() >= properties.getMaxParticipants()) {
+				throw new FrameLimitException("participants", target.participants.size() + 1);
+			}
+			String userId = readText(parser, item, "participants", properties.getMaxIdLength());
+			if (userId != null) {
+				target.participants.add(userId);
+			}
+		}
+	}
+	
+	/**
+	 * 크기 제한 초과 (프레임 / 필드 길이 / 참여자 수)
+	 */
+	public static class FrameLimitException extends IOException {
+		public FrameLimitException(String field, int size) {
+			super("수신 프레임 제한 초과 - " + field + ": " + size);
+		}
+	}
+}
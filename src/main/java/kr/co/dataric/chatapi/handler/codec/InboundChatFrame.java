@@ -0,0 +1,40 @@
+package kr.co.dataric.chatapi.handler.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * /ws/chat 수신 프레임 (세션당 1개를 만들어 매 프레임 재사용)
+ * - 세션 수신 스트림은 순차 처리되므로 동시 접근 없음
+ * - participants 는 재사용 버퍼 → 다른 곳에 넘길 때는 participantsCopy() 사용
+ */
+public final class InboundChatFrame {
+	
+	String msgId;
+	String message;
+	boolean newRoomMsg;
+	final List<String> participants = new ArrayList<>();
+	
+	void reset() {
+		msgId = null;
+		message = null;
+		newRoomMsg = false;
+		participants.clear();
+	}
+	
+	public String getMsgId() {
+		return msgId;
+	}
+	
+	public String getMessage() {
+		return message;
+	}
+	
+	public boolean isNewRoomMsg() {
+		return newRoomMsg;
+	}
+	
+	public List<String> participantsCopy() {
+		return List.copyOf(participants);
+	}
+}
@@ -0,0 +1,73 @@
+package kr.co.dataric.chatapi.kafka.consumer;
+
+import kr.co.dataric.chatapi.cache.RecentMessageCache;
+import kr.co.dataric.chatapi.config.cluster.ClusterNode;
+import kr.co.dataric.chatapi.config.sink.ChatSinkManager;
+import kr.co.dataric.chatapi.config.websocket.codec.FrameCodecRegistry;
+import kr.co.dataric.chatapi.kafka.producer.KafkaChatProducer;
+import kr.co.dataric.common.dto.ChatEnvelope;
+import kr.co.dataric.common.dto.ChatMessageDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 전송된 채팅을 로컬 세션으로 전달
+ * - 노드마다 고유 groupId → 모든 노드가 전체 레코드 수신
+ * - 자기 노드가 보낸 레코드는 이미 로컬 전송했으므로 skip
+ * - AFFINITY 모드에서는 방마다 담당 노드가 하나뿐이므로 등록하지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.cluster", name = "mode", havingValue = "broadcast", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ChatFanoutConsumer {
+	
+	private final ClusterNode clusterNode;
+	private final ChatSinkManager chatSinkManager;
+	private final RecentMessageCache recentMessageCache;
+	private final FrameCodecRegistry frameCodecRegistry;
+	
+	@KafkaListener(
+		topics = KafkaChatProducer.CHAT_SEND_TOPIC,
+		groupId = "#{'chat-api-fanout-' + @clusterNode.nodeId}",
+		containerFactory = "chatFanoutListenerContainerFactory"
+	)
+	public void onMessage(ConsumerRecord<String, byte[]> record) {
+		Header origin = record.headers().lastHeader(KafkaChatProducer.ORIGIN_NODE_HEADER);
+		if (origin != null && clusterNode.isSelf(origin.value())) {
+			return;
+		}
+		
+		if (record.value() == null) {
+			return;
+		}
+		
+		ChatEnvelope envelope;
+		try {
+			envelope = frameCodecRegistry.envelope(record.value());
+		} catch (Exception e) {
+			log.warn("❗ chat.room.send 레코드 역직렬화 실패 - offset: {}, error: {}", record.offset(), e.toString());
+			return;
+		}
+		
+		ChatMessageDTO dto = envelope.getMessage();
+		if (dto == null || dto.getRoomId() == null) {
+			return;
+		}
+		
+		if (!chatSinkManager.hasRoom(dto.getRoomId())) {
+			// 로컬 세션 없는 방 → 링 버퍼가 뒤처지지 않도록 무효화만
+			recentMessageCache.invalidate(dto.getRoomId());
+			return;
+		}
+		
+		recentMessageCache.append(dto);
+		chatSinkManager.emitToRoom(envelope);
+		log.debug("📨 원격 노드 메시지 전달 - roomId: {}, msgId: {}", dto.getRoomId(), dto.getId());
+	}
+}
@@ -1,52 +1,76 @@
 package kr.co.dataric.chatapi.kafka.producer;
 
-import kr.co.dataric.chatapi.config.sink.ChatSinkManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.dataric.chatapi.config.cluster.ClusterNode;
+import kr.co.dataric.common.dto.ChatEnvelope;
 import kr.co.dataric.common.dto.ChatMessageDTO;
 import kr.co.dataric.common.dto.ChatRoomRedisDto;
-import kr.co.dataric.common.entity.ChatMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 
+/**
+ * 채팅 / 방 갱신 Kafka 전송
+ * - key = roomId → 같은 방 레코드는 같은 partition 에 전송 순서대로 기록
+ * - 구독 시 KafkaSendLimiter permit 확보 후 전송, ack 시 완료 (결과 metric 은 limiter 가 기록)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaChatProducer {
 	
-	private final KafkaTemplate<String, Object> kafkaTemplate;
-	private final ChatSinkManager chatSinkManager;
-	private static final String CHAT_SEND_TOPIC = "chat.room.send";
+	private final KafkaTemplate<String, byte[]> byteArrayKafkaTemplate;
+	private final ClusterNode clusterNode;
+	private final ObjectMapper objectMapper;
+	private final KafkaSendLimiter kafkaSendLimiter;
+	public static final String CHAT_SEND_TOPIC = "chat.room.send";
+	public static final String ORIGIN_NODE_HEADER = "x-origin-node";
 	private static final String REDIS_UPDATE_TOPIC = "chat.room.redis.update";
+	private static final byte[] CHAT_TYPE_ID = ChatMessageDTO.class.getName().getBytes(StandardCharsets.UTF_8);
+	private static final byte[] ROOM_TYPE_ID = ChatRoomRedisDto.class.getName().getBytes(StandardCharsets.UTF_8);
 	
-	// 채팅 전송
-	public void sendMessage(ChatMessage msg, List<String> userIdsList) {
-		ChatMessageDTO dto = ChatMessageDTO.builder()
-			.id(msg.getMsgId())
-			.roomId(msg.getRoomId())
-			.sender(msg.getSender())
-			.message(msg.getMessage())
-			.timestamp(msg.getTimestamp())
-			.participants(userIdsList)
-			.build();
-
-		// Sink에 즉시 전송
-		chatSinkManager.emitToRoom(msg.getRoomId(), dto);
-		
-		// Kafka는 후속 분산 처리를 위해 전송
-		ProducerRecord<String, Object> chatRecord = new ProducerRecord<>(CHAT_SEND_TOPIC, dto);
-		chatRecord.headers().add("__TypeId__", ChatMessageDTO.class.getName().getBytes(StandardCharsets.UTF_8));
-		kafkaTemplate.send(chatRecord);
+	/**
+	 * ✅ 채팅 전송 (envelope 정본 bytes 그대로, 로컬 fan-out 은 ChatSinkManager.emitToRoom)
+	 */
+	public Mono<Void> sendMessage(ChatEnvelope envelope) {
+		return sendMessage(envelope.getRoomId(), envelope.getJson());
+	}
+	
+	/**
+	 * ✅ 채팅 전송 (WAL 재전송 - 기록해 둔 roomId / 정본 bytes 그대로)
+	 */
+	public Mono<Void> sendMessage(String roomId, byte[] json) {
+		ProducerRecord<String, byte[]> chatRecord = new ProducerRecord<>(CHAT_SEND_TOPIC, roomId, json);
+		chatRecord.headers().add("__TypeId__", CHAT_TYPE_ID);
+		chatRecord.headers().add(ORIGIN_NODE_HEADER, clusterNode.getNodeIdBytes()); // 다른 노드 fan-out 시 자기 레코드 skip 용
+		return send(chatRecord);
+	}
+	
+	/**
+	 * ✅ 채팅 방 업데이트 전송 (RoomUpdateCoalescer 가 방별 최신 1건만 호출)
+	 * - envelope 필드 재사용, 스키마가 달라 이 레코드만 별도 인코딩
+	 */
+	public Mono<Void> sendRoomUpdate(ChatEnvelope envelope) {
+		try {
+			ProducerRecord<String, byte[]> redisRecord = new ProducerRecord<>(REDIS_UPDATE_TOPIC, envelope.getRoomId(),
+				objectMapper.writeValueAsBytes(envelope.toRoomUpdate()));
+			redisRecord.headers().add("__TypeId__", ROOM_TYPE_ID);
+			return send(redisRecord);
+		} catch (JsonProcessingException e) {
+			log.error("❌ 방 갱신 이벤트 직렬화 실패 - roomId: {}", envelope.getRoomId(), e);
+			return Mono.error(e);
+		}
 	}
 	
-	// 채팅 방 업데이트 전송
-	public void updateChatRoom(ChatRoomRedisDto roomDto) {
-		ProducerRecord<String, Object> redisRecord = new ProducerRecord<>(REDIS_UPDATE_TOPIC, roomDto);
-		redisRecord.headers().add("__TypeId__", ChatRoomRedisDto.class.getName().getBytes(StandardCharsets.UTF_8));
-		kafkaTemplate.send(redisRecord);
+	private Mono<Void> send(ProducerRecord<String, byte[]> record) {
+		return kafkaSendLimiter.submit(record.topic(), () -> byteArrayKafkaTemplate.send(record))
+			.doOnError(error -> log.warn("❗ Kafka 전송 실패 - topic: {}, key: {}, error: {}", record.topic(), record.key(), error.toString()))
+			.then();
 	}
 }
@@ -0,0 +1,230 @@
+package kr.co.dataric.chatapi.kafka.producer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import kr.co.dataric.chatapi.config.kafka.ChatPublishProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 노드 단위 Kafka ack 대기 레코드 상한 (chat.publish.max-in-flight)
+ * - permit 이 없으면 레코드를 만들어 둔 채 대기 → 구독자(세션 flatMap)가 완료를 못 받아 수신이 멈춤
+ * - 대기열은 FIFO, 단일 drain → 같은 세션에서 들어온 순서대로 send 호출
+ * - acquireTimeout 동안 permit 을 못 받으면 KafkaBackpressureException
+ * - ack / 실패 / 대기 시간은 topic 태그로 chat.kafka.send.* 에 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KafkaSendLimiter {
+	
+	private static final int WAITING = 0;
+	private static final int STARTED = 1;
+	private static final int CANCELLED = 2;
+	
+	private final ChatPublishProperties chatPublishProperties;
+	private final MeterRegistry meterRegistry;
+	
+	private final Queue<Pending<?>> waiters = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger waiting = new AtomicInteger();
+	private final AtomicInteger wip = new AtomicInteger();
+	private AtomicInteger available;
+	
+	// topic (+ 예외 타입) 별 meter 캐시 → send 마다 registry 조회하지 않음
+	private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+	private final Map<String, Counter> failureCounters = new ConcurrentHashMap<>();
+	
+	private Counter throttledCounter;
+	private Counter rejectedCounter;
+	private Timer waitTimer;
+	
+	@PostConstruct
+	public void init() {
+		available = new AtomicInteger(chatPublishProperties.getMaxInFlight());
+		throttledCounter = Counter.builder("chat.kafka.send.throttled")
+			.description("permit 이 없어 대기한 레코드")
+			.register(meterRegistry);
+		rejectedCounter = Counter.builder("chat.kafka.send.rejected")
+			.description("acquire-timeout 초과로 전송하지 않은 레코드")
+			.register(meterRegistry);
+		waitTimer = Timer.builder("chat.kafka.send.wait")
+			.description("permit 대기 시간")
+			.register(meterRegistry);
+		Gauge.builder("chat.kafka.send.inflight", this,
+				limiter -> chatPublishProperties.getMaxInFlight() - limiter.available.get())
+			.register(meterRegistry);
+		Gauge.builder("chat.kafka.send.waiting", waiting, AtomicInteger::get)
+			.register(meterRegistry);
+	}
+	
+	/**
+	 * ✅ permit 확보 후 send 실행, ack 시 완료
+	 * - 구독 시점에 대기열 진입 (구독 전에는 전송하지 않음)
+	 * - 구독 취소해도 이미 보낸 레코드는 취소하지 않음
+	 */
+	public <T> Mono<T> submit(String topic, Supplier<CompletableFuture<T>> send) {
+		return Mono.create(sink -> {
+			Pending<T> pending = new Pending<>(topic, send, sink);
+			if (available.get() <= 0 || !waiters.isEmpty()) {
+				throttledCounter.increment();
+			}
+			
+			sink.onCancel(pending::cancel);
+			
+			waiting.incrementAndGet();
+			waiters.offer(pending);
+			drain();
+			
+			// 바로 시작하지 못한 레코드만 만료 타이머 등록
+			if (pending.state.get() == WAITING) {
+				Disposable expiry = Schedulers.parallel().schedule(pending::expire,
+					chatPublishProperties.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+				sink.onDispose(expiry);
+			}
+		});
+	}
+	
+	private boolean tryAcquire() {
+		for (;;) {
+			int current = available.get();
+			if (current <= 0) {
+				return false;
+			}
+			if (available.compareAndSet(current, current - 1)) {
+				return true;
+			}
+		}
+	}
+	
+	private void release() {
+		available.incrementAndGet();
+		if (!waiters.isEmpty()) {
+			// ack 콜백은 producer I/O 스레드 → 대기 레코드 send 는 다른 스레드에서 (buffer 가 차면 send 가 블록될 수 있음)
+			Schedulers.boundedElastic().schedule(this::drain);
+		}
+	}
+	
+	private void drain() {
+		if (wip.getAndIncrement() != 0) {
+			return;
+		}
+		
+		int missed = 1;
+		do {
+			Pending<?> pending;
+			while ((pending = waiters.peek()) != null) {
+				if (pending.state.get() != WAITING) {
+					// 취소 / 만료된 대기 항목 정리
+					waiters.poll();
+					waiting.decrementAndGet();
+					continue;
+				}
+				if (!tryAcquire()) {
+					break;
+				}
+				
+				waiters.poll();
+				waiting.decrementAndGet();
+				if (pending.state.compareAndSet(WAITING, STARTED)) {
+					pending.start();
+				} else {
+					available.incrementAndGet();
+				}
+			}
+			missed = wip.addAndGet(-missed);
+		} while (missed != 0);
+	}
+	
+	private void onFailure(String topic, Throwable error) {
+		String exception = error.getClass().getSimpleName();
+		failureCounters.computeIfAbsent(topic + '|' + exception, key -> Counter.builder("chat.kafka.send.failures")
+				.tag("topic", topic)
+				.tag("exception", exception)
+				.register(meterRegistry))
+			.increment();
+	}
+	
+	private Timer latencyTimer(String topic) {
+		return latencyTimers.computeIfAbsent(topic, key -> Timer.builder("chat.kafka.send.latency")
+			.tag("topic", topic)
+			.register(meterRegistry));
+	}
+	
+	private final class Pending<T> {
+		
+		private final String topic;
+		private final Supplier<CompletableFuture<T>> send;
+		private final MonoSink<T> sink;
+		private final AtomicInteger state = new AtomicInteger(WAITING);
+		private final long queuedAt = System.nanoTime();
+		
+		private Pending(String topic, Supplier<CompletableFuture<T>> send, MonoSink<T> sink) {
+			this.topic = topic;
+			this.send = send;
+			this.sink = sink;
+		}
+		
+		private void start() {
+			long started = System.nanoTime();
+			waitTimer.record(started - queuedAt, TimeUnit.NANOSECONDS);
+			
+			CompletableFuture<T> future;
+			try {
+				future = send.get();
+			} catch (Exception e) {
+				release();
+				onFailure(topic, e);
+				sink.error(e);
+				return;
+			}
+			
+			future.whenComplete((result, error) -> {
+				release();
+				if (error != null) {
+					onFailure(topic, error);
+					sink.error(error);
+					return;
+				}
+				latencyTimer(topic).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+				sink.success(result);
+			});
+		}
+		
+		private void cancel() {
+			state.compareAndSet(WAITING, CANCELLED);
+		}
+		
+		private void expire() {
+			if (state.compareAndSet(WAITING, CANCELLED)) {
+				rejectedCounter.increment();
+				sink.error(new KafkaBackpressureException(topic, chatPublishProperties.getMaxInFlight()));
+			}
+		}
+	}
+	
+	/**
+	 * acquire-timeout 동안 ack 대기 레코드가 maxInFlight 에서 줄지 않은 경우
+	 */
+	public static class KafkaBackpressureException extends RuntimeException {
+		public KafkaBackpressureException(String topic, int maxInFlight) {
+			super("Kafka ack 대기 상한 초과 (topic=" + topic + ", maxInFlight=" + maxInFlight + ")");
+		}
+	}
+}
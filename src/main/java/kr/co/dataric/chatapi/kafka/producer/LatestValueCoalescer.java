@@ -0,0 +1,149 @@
+package kr.co.dataric.chatapi.kafka.producer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * key 단위 last-writer-wins 병합 후 주기 전송 (방 갱신 / 읽음 이벤트 공용)
+ * - 같은 key 는 newer(current, next) 가 고른 값 1건만 대기
+ * - 전송 실패 값은 그 사이 더 최신 값이 들어오지 않았으면 다시 적재 → 다음 flush 에 재전송
+ * - 메트릭: {prefix}.received / flushed / requeued / superseded, {prefix}.pending
+ */
+@Slf4j
+public class LatestValueCoalescer<K, V> {
+	
+	private final String name;
+	private final BinaryOperator<V> newer;
+	private final Function<V, Mono<Void>> sender;
+	private final int concurrency;
+	
+	private final Map<K, V> latest = new ConcurrentHashMap<>();
+	private final AtomicBoolean flushing = new AtomicBoolean();
+	
+	private final Counter receivedCounter;
+	private final Counter flushedCounter;
+	private final Counter requeuedCounter;
+	private final Counter supersededCounter;
+	private Disposable ticker;
+	
+	public LatestValueCoalescer(String name, BinaryOperator<V> newer, Function<V, Mono<Void>> sender,
+								int concurrency, MeterRegistry meterRegistry) {
+		this.name = name;
+		this.newer = newer;
+		this.sender = sender;
+		this.concurrency = concurrency;
+		
+		receivedCounter = Counter.builder(name + ".received").register(meterRegistry);
+		flushedCounter = Counter.builder(name + ".flushed").register(meterRegistry);
+		requeuedCounter = Counter.builder(name + ".requeued")
+			.description("전송 실패 후 다시 적재된 값")
+			.register(meterRegistry);
+		supersededCounter = Counter.builder(name + ".superseded")
+			.description("전송 실패 후 더 최신 값이 있어 버린 값")
+			.register(meterRegistry);
+		Gauge.builder(name + ".pending", latest, Map::size).register(meterRegistry);
+	}
+	
+	/**
+	 * ✅ interval 마다 flush 시작
+	 */
+	public void start(Duration interval) {
+		ticker = Flux.interval(interval)
+			.onBackpressureDrop()
+			.concatMap(tick -> flush())
+			.subscribe();
+	}
+	
+	/**
+	 * 주기 flush 중지 후 남은 값 전송 (종료 시)
+	 */
+	public void stop(Duration timeout) {
+		if (ticker != null) {
+			ticker.dispose();
+		}
+		try {
+			flush().block(timeout);
+		} catch (Exception e) {
+			log.warn("❗ 종료 시 {} flush 실패: {}", name, e.toString());
+		}
+	}
+	
+	/**
+	 * ✅ 값 적재 (같은 key 의 이전 값과 병합) → 현재 대기 key 수 반환
+	 */
+	public int submit(K key, V value) {
+		receivedCounter.increment();
+		latest.merge(key, value, newer);
+		return latest.size();
+	}
+	
+	public Mono<Void> flush() {
+		if (latest.isEmpty() || !flushing.compareAndSet(false, true)) {
+			return Mono.empty();
+		}
+		
+		List<Map.Entry<K, V>> batch = new ArrayList<>(latest.size());
+		for (K key : latest.keySet()) {
+			V value = latest.remove(key);
+			if (value != null) {
+				batch.add(Map.entry(key, value));
+			}
+		}
+		flushedCounter.increment(batch.size());
+		
+		AtomicInteger requeued = new AtomicInteger();
+		AtomicInteger superseded = new AtomicInteger();
+		return Flux.fromIterable(batch)
+			.flatMap(entry -> sender.apply(entry.getValue())
+				.onErrorResume(e -> {
+					if (requeue(entry.getKey(), entry.getValue())) {
+						requeued.incrementAndGet();
+					} else {
+						superseded.incrementAndGet();
+					}
+					log.debug("❗ {} 전송 실패 - key: {}, error: {}", name, entry.getKey(), e.toString());
+					return Mono.empty();
+				}), concurrency)
+			.then()
+			.doFinally(signal -> {
+				flushing.set(false);
+				if (requeued.get() > 0 || superseded.get() > 0) {
+					log.warn("❗ {} 전송 실패 - 재적재: {}, 최신 값으로 대체되어 버림: {}", name, requeued.get(), superseded.get());
+				}
+			});
+	}
+	
+	/**
+	 * ✅ 수신 값 수 / 전송 시도 수
+	 */
+	public double coalesceRatio() {
+		double flushed = flushedCounter.count();
+		return flushed > 0 ? receivedCounter.count() / flushed : 0;
+	}
+	
+	// 실패 값 재적재 (그 사이 들어온 값이 더 최신이면 유지) → 실패 값이 남았으면 true
+	private boolean requeue(K key, V failed) {
+		V kept = latest.merge(key, failed, (current, value) -> newer.apply(value, current));
+		if (kept == failed) {
+			requeuedCounter.increment();
+			return true;
+		}
+		supersededCounter.increment();
+		return false;
+	}
+}
@@ -0,0 +1,70 @@
+package kr.co.dataric.chatapi.kafka.producer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.dataric.chatapi.config.kafka.ChatPublishProperties;
+import kr.co.dataric.chatapi.config.read.ReadReceiptProperties;
+import kr.co.dataric.common.dto.ReadReceiptEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 읽음 이벤트 Kafka 전송 전 (roomId, userId) 단위 last-writer-wins 병합
+ * - 스크롤 중 연속 읽음은 가장 최신 위치 1건만 전송
+ * - kafkaFlushInterval 주기 또는 대기 건수가 kafkaFlushSize 이상이면 flush
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadEventCoalescer {
+	
+	private final ReadEventProducer readEventProducer;
+	private final ReadReceiptProperties readReceiptProperties;
+	private final ChatPublishProperties chatPublishProperties;
+	private final MeterRegistry meterRegistry;
+	
+	private LatestValueCoalescer<RoomUser, ReadReceiptEvent> coalescer;
+	
+	@PostConstruct
+	public void start() {
+		coalescer = new LatestValueCoalescer<>("chat.read.events", ReadEventCoalescer::newer,
+			readEventProducer::sendReadEvent, chatPublishProperties.getFlushConcurrency(), meterRegistry);
+		Gauge.builder("chat.read.events.coalesce.ratio", coalescer, LatestValueCoalescer::coalesceRatio)
+			.description("수신 이벤트 수 / Kafka 전송 수")
+			.register(meterRegistry);
+		coalescer.start(readReceiptProperties.getKafkaFlushInterval());
+	}
+	
+	@PreDestroy
+	public void stop() {
+		coalescer.stop(Duration.ofSeconds(5));
+	}
+	
+	/**
+	 * ✅ 읽음 이벤트 적재 (같은 방/유저의 이전 위치는 덮어씀)
+	 */
+	public void submit(ReadReceiptEvent event) {
+		if (event.getRoomId() == null || event.getUserId() == null) {
+			return;
+		}
+		
+		if (coalescer.submit(new RoomUser(event.getRoomId(), event.getUserId()), event) >= readReceiptProperties.getKafkaFlushSize()) {
+			coalescer.flush().subscribe();
+		}
+	}
+	
+	// timestamp 가 더 늦은 쪽 유지, 비교할 수 없으면 나중에 들어온 이벤트
+	private static ReadReceiptEvent newer(ReadReceiptEvent current, ReadReceiptEvent next) {
+		if (current.getTimestamp() != null && next.getTimestamp() != null
+			&& next.getTimestamp().isBefore(current.getTimestamp())) {
+			return current;
+		}
+		return next;
+	}
+	
+	private record RoomUser(String roomId, String userId) {
+	}
+}
@@ -4,7 +4,6 @@ import kr.co.dataric.common.dto.ReadReceiptEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerRecord;
-import org.reactivestreams.Publisher;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
@@ -17,19 +16,15 @@ import java.nio.charset.StandardCharsets;
 public class ReadEventProducer {
 	
 	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final KafkaSendLimiter kafkaSendLimiter;
 	private static final String TOPIC = "chat.read.receipt";
 	
 	public Mono<Void> sendReadEvent(ReadReceiptEvent event) {
-		return Mono.fromFuture(() -> {
-				try {
-					ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC, event);
-					record.headers().add("__TypeId__", ReadReceiptEvent.class.getName().getBytes(StandardCharsets.UTF_8));
-					return kafkaTemplate.send(record);
-				} catch (Exception e) {
-					log.error("Kafka 전송 실패", e);
-					throw new RuntimeException("Kafka send error", e);
-				}
-			}).doOnSuccess(result -> log.info("✅ Kafka 읽음 이벤트 전송 성공: {}", event))
+		// 방 단위 key → 같은 방 이벤트 순서 보장 (compacted topic 대응)
+		ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC, event.getRoomId(), event);
+		record.headers().add("__TypeId__", ReadReceiptEvent.class.getName().getBytes(StandardCharsets.UTF_8));
+		return kafkaSendLimiter.submit(TOPIC, () -> kafkaTemplate.send(record))
+			.doOnSuccess(result -> log.debug("✅ Kafka 읽음 이벤트 전송 성공: {}", event))
 			.doOnError(error -> log.error("❌ Kafka 읽음 이벤트 전송 실패", error))
 			.then(); // Mono<Void>
 	}
@@ -0,0 +1,55 @@
+package kr.co.dataric.chatapi.kafka.producer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.dataric.chatapi.config.kafka.ChatPublishProperties;
+import kr.co.dataric.common.dto.ChatEnvelope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * chat.room.redis.update 방 단위 last-writer-wins 병합
+ * - 방 목록의 마지막 메시지 / 시각은 최신 값만 의미가 있으므로 flush 주기마다 방별 1건만 전송
+ * - 채팅 폭주 방에서 메시지당 레코드 2건 → 약 1건 + 주기당 1건
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomUpdateCoalescer {
+	
+	private final KafkaChatProducer kafkaChatProducer;
+	private final ChatPublishProperties chatPublishProperties;
+	private final MeterRegistry meterRegistry;
+	
+	private LatestValueCoalescer<String, ChatEnvelope> coalescer;
+	
+	@PostConstruct
+	public void start() {
+		coalescer = new LatestValueCoalescer<>("chat.room.updates", RoomUpdateCoalescer::newer,
+			kafkaChatProducer::sendRoomUpdate, chatPublishProperties.getFlushConcurrency(), meterRegistry);
+		coalescer.start(chatPublishProperties.getRoomUpdateFlushInterval());
+	}
+	
+	@PreDestroy
+	public void stop() {
+		coalescer.stop(Duration.ofSeconds(5));
+	}
+	
+	/**
+	 * ✅ 방 갱신 적재 (같은 방의 이전 메시지는 덮어씀)
+	 */
+	public void submit(ChatEnvelope envelope) {
+		coalescer.submit(envelope.getRoomId(), envelope);
+	}
+	
+	// 보낸 시각이 더 늦은 쪽 유지, 같으면 나중에 들어온 메시지
+	private static ChatEnvelope newer(ChatEnvelope current, ChatEnvelope next) {
+		if (current.getMessage().getTimestamp() != null && next.getMessage().getTimestamp() != null
+			&& next.getMessage().getTimestamp().isBefore(current.getMessage().getTimestamp())) {
+			return current;
+		}
+		return next;
+	}
+}
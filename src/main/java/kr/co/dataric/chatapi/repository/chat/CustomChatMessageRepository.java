@@ -0,0 +1,16 @@
+package kr.co.dataric.chatapi.repository.chat;
+
+import kr.co.dataric.common.entity.ChatMessage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface CustomChatMessageRepository {
+	Flux<ChatMessage> findPage(String roomId, int offset, int size);
+	Flux<ChatMessage> findBefore(String roomId, LocalDateTime timestamp, String msgId, int size);
+	Flux<ChatMessage> findAfter(String roomId, LocalDateTime timestamp, String msgId, int size);
+	Flux<ChatMessage> findBeforeSeq(String roomId, long seq, int size);
+	Flux<ChatMessage> findAfterSeq(String roomId, long seq, int size);
+	Mono<Long> findLastSeqAtOrBefore(String roomId, LocalDateTime timestamp);
+}
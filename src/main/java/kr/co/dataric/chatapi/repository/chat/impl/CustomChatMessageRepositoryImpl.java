@@ -0,0 +1,98 @@
+package kr.co.dataric.chatapi.repository.chat.impl;
+
+import kr.co.dataric.chatapi.repository.chat.CustomChatMessageRepository;
+import kr.co.dataric.common.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * chat_messages 커서(keyset) 조회
+ * - (roomId, timestamp, msgId) 인덱스를 타고 limit 까지만 읽음 → 방 크기와 무관하게 일정한 지연
+ * - seq 커서는 (roomId, seq) 인덱스 사용 (seq 도입 전 메시지는 seq 가 없어 제외)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CustomChatMessageRepositoryImpl implements CustomChatMessageRepository {
+	
+	private final ReactiveMongoTemplate mongoTemplate;
+	
+	// 최신순 (timestamp 동일 시 msgId 로 순서 고정)
+	private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "timestamp", "msgId");
+	private static final Sort OLDEST_FIRST = Sort.by(Sort.Direction.ASC, "timestamp", "msgId");
+	private static final Sort SEQ_DESC = Sort.by(Sort.Direction.DESC, "seq");
+	private static final Sort SEQ_ASC = Sort.by(Sort.Direction.ASC, "seq");
+	
+	@Override
+	public Flux<ChatMessage> findPage(String roomId, int offset, int size) {
+		Query query = Query.query(Criteria.where("roomId").is(roomId))
+			.with(NEWEST_FIRST)
+			.skip(offset)
+			.limit(size);
+		return mongoTemplate.find(query, ChatMessage.class);
+	}
+	
+	@Override
+	public Flux<ChatMessage> findBefore(String roomId, LocalDateTime timestamp, String msgId, int size) {
+		Criteria range = msgId == null
+			? Criteria.where("timestamp").lt(timestamp)
+			: new Criteria().orOperator(
+				Criteria.where("timestamp").lt(timestamp),
+				Criteria.where("timestamp").is(timestamp).and("msgId").lt(msgId));
+		
+		Query query = Query.query(Criteria.where("roomId").is(roomId).andOperator(range))
+			.with(NEWEST_FIRST)
+			.limit(size);
+		return mongoTemplate.find(query, ChatMessage.class);
+	}
+	
+	@Override
+	public Flux<ChatMessage> findAfter(String roomId, LocalDateTime timestamp, String msgId, int size) {
+		Criteria range = msgId == null
+			? Criteria.where("timestamp").gt(timestamp)
+			: new Criteria().orOperator(
+				Criteria.where("timestamp").gt(timestamp),
+				Criteria.where("timestamp").is(timestamp).and("msgId").gt(msgId));
+		
+		Query query = Query.query(Criteria.where("roomId").is(roomId).andOperator(range))
+			.with(OLDEST_FIRST)
+			.limit(size);
+		return mongoTemplate.find(query, ChatMessage.class);
+	}
+	
+	@Override
+	public Flux<ChatMessage> findBeforeSeq(String roomId, long seq, int size) {
+		Query query = Query.query(Criteria.where("roomId").is(roomId).and("seq").lt(seq))
+			.with(SEQ_DESC)
+			.limit(size);
+		return mongoTemplate.find(query, ChatMessage.class);
+	}
+	
+	@Override
+	public Flux<ChatMessage> findAfterSeq(String roomId, long seq, int size) {
+		Query query = Query.query(Criteria.where("roomId").is(roomId).and("seq").gt(seq))
+			.with(SEQ_ASC)
+			.limit(size);
+		return mongoTemplate.find(query, ChatMessage.class);
+	}
+	
+	// seq 없는 기존 읽음 위치 변환용 (그 시각까지 보낸 마지막 메시지 seq)
+	@Override
+	public Mono<Long> findLastSeqAtOrBefore(String roomId, LocalDateTime timestamp) {
+		Query query = Query.query(Criteria.where("roomId").is(roomId).and("seq").exists(true).and("timestamp").lte(timestamp))
+			.with(SEQ_DESC)
+			.limit(1);
+		query.fields().include("seq");
+		return mongoTemplate.findOne(query, ChatMessage.class)
+			.mapNotNull(ChatMessage::getSeq);
+	}
+}
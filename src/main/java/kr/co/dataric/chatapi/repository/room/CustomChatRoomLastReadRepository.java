@@ -0,0 +1,10 @@
+package kr.co.dataric.chatapi.repository.room;
+
+import kr.co.dataric.common.dto.LastReadMarker;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface CustomChatRoomLastReadRepository {
+	Mono<Void> applyLastReads(Map<String, Map<String, LastReadMarker>> markersByRoom);
+}
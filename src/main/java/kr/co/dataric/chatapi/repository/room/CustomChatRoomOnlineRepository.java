@@ -0,0 +1,9 @@
+package kr.co.dataric.chatapi.repository.room;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface CustomChatRoomOnlineRepository {
+	Mono<Void> applyPresenceChanges(Map<String, Map<String, Boolean>> changes);
+}
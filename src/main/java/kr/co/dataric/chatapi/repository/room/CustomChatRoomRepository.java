@@ -6,4 +6,5 @@ import java.util.List;
 
 public interface CustomChatRoomRepository {
 	Mono<Void> createNewChatRoom(String roomId, List<String> userIdsList);
+	Mono<List<String>> findParticipants(String roomId);
 }
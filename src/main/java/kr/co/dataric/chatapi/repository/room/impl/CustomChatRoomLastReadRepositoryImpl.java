@@ -0,0 +1,68 @@
+package kr.co.dataric.chatapi.repository.room.impl;
+
+import kr.co.dataric.chatapi.entity.room.ChatRoomLastRead;
+import kr.co.dataric.chatapi.repository.room.CustomChatRoomLastReadRepository;
+import kr.co.dataric.common.dto.LastReadMarker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * chat_room_last_read 필드 단위 갱신
+ * - 문서 전체 save 대신 lastReadMap.{userId} / lastReadAt.{userId} 만 $set
+ * - lastReadSeq(없으면 lastReadAt) 이 더 오래된 경우에만 갱신 → 늦게 도착한 쓰기가 읽음 위치를 되돌리지 않음
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CustomChatRoomLastReadRepositoryImpl implements CustomChatRoomLastReadRepository {
+	
+	private final ReactiveMongoTemplate mongoTemplate;
+	
+	@Override
+	public Mono<Void> applyLastReads(Map<String, Map<String, LastReadMarker>> markersByRoom) {
+		if (markersByRoom.isEmpty()) {
+			return Mono.empty();
+		}
+		
+		ReactiveBulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ChatRoomLastRead.class);
+		markersByRoom.forEach((roomId, markers) -> {
+			// 문서가 없으면 먼저 생성 (조건부 갱신에서 upsert 시 _id 중복 방지)
+			bulk.upsert(Query.query(Criteria.where("_id").is(roomId)), new Update().setOnInsert("roomId", roomId));
+			
+			markers.forEach((userId, marker) -> {
+				// seq 가 있으면 seq, 없으면 (seq 도입 전 메시지) 읽은 시각으로 최신 여부 판단
+				String readAtField = "lastReadAt." + userId;
+				String readSeqField = "lastReadSeq." + userId;
+				Criteria newer = marker.hasSeq()
+					? new Criteria().orOperator(
+						Criteria.where(readSeqField).exists(false),
+						Criteria.where(readSeqField).lt(marker.getSeq()))
+					: new Criteria().orOperator(
+						Criteria.where(readAtField).exists(false),
+						Criteria.where(readAtField).lt(marker.getTimestamp()));
+				
+				Update update = new Update()
+					.set("lastReadMap." + userId, marker.toLegacyValue())
+					.set(readAtField, marker.getTimestamp());
+				if (marker.hasSeq()) {
+					update.set(readSeqField, marker.getSeq());
+				}
+				bulk.updateOne(Query.query(Criteria.where("_id").is(roomId).andOperator(newer)), update);
+			});
+		});
+		
+		return bulk.execute()
+			.doOnNext(result -> log.debug("📝 last-read 반영 - rooms: {}, modified: {}", markersByRoom.size(), result.getModifiedCount()))
+			.then();
+	}
+}
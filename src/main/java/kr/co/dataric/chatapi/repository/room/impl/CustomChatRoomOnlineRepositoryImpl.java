@@ -0,0 +1,59 @@
+package kr.co.dataric.chatapi.repository.room.impl;
+
+import kr.co.dataric.chatapi.entity.onoff.ChatRoomOnline;
+import kr.co.dataric.chatapi.repository.room.CustomChatRoomOnlineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * chat_room_online 원자적 갱신
+ * - 문서 전체 save 대신 $addToSet / $pull 만 전송 → 동시 접속/해제 시에도 갱신 유실 없음
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CustomChatRoomOnlineRepositoryImpl implements CustomChatRoomOnlineRepository {
+	
+	private final ReactiveMongoTemplate mongoTemplate;
+	
+	/**
+	 * roomId -> (userId -> 온라인 여부) 변경분을 한 번의 ordered bulk 로 반영
+	 */
+	@Override
+	public Mono<Void> applyPresenceChanges(Map<String, Map<String, Boolean>> changes) {
+		if (changes.isEmpty()) {
+			return Mono.empty();
+		}
+		
+		ReactiveBulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ChatRoomOnline.class);
+		changes.forEach((roomId, users) -> {
+			List<Object> joined = new ArrayList<>();
+			List<Object> left = new ArrayList<>();
+			users.forEach((userId, online) -> (online ? joined : left).add(userId));
+			
+			Query byRoom = Query.query(Criteria.where("_id").is(roomId));
+			if (!joined.isEmpty()) {
+				bulk.upsert(byRoom, new Update().addToSet("onlineUsers").each(joined.toArray()));
+			}
+			if (!left.isEmpty()) {
+				bulk.updateOne(byRoom, new Update().pullAll("onlineUsers", left.toArray()));
+			}
+		});
+		
+		return bulk.execute()
+			.doOnNext(result -> log.debug("🟢 presence 반영 - rooms: {}, modified: {}", changes.size(), result.getModifiedCount()))
+			.then();
+	}
+}
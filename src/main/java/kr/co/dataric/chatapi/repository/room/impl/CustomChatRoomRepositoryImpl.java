@@ -5,6 +5,8 @@ import kr.co.dataric.common.entity.ChatRoom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
@@ -32,4 +34,14 @@ public class CustomChatRoomRepositoryImpl implements CustomChatRoomRepository {
 
 		return mongoTemplate.insert(room).then();
 	}
+	
+	@Override
+	public Mono<List<String>> findParticipants(String roomId) {
+		Query query = Query.query(Criteria.where("roomId").is(roomId));
+		query.fields().include("participants");
+		
+		return mongoTemplate.findOne(query, ChatRoom.class)
+			.mapNotNull(ChatRoom::getParticipants)
+			.defaultIfEmpty(List.of());
+	}
 }
@@ -1,11 +1,19 @@
 package kr.co.dataric.chatapi.service;
 
+import kr.co.dataric.common.dto.ChatMessageDTO;
 import kr.co.dataric.common.entity.ChatMessage;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 public interface ChatService {
 	Flux<ChatMessage> getMessagesByRoom(String roomId, int offset, int size);
+	Flux<ChatMessageDTO> getRecentMessages(String roomId, int size);
+	Flux<ChatMessage> getMessagesBefore(String roomId, LocalDateTime timestamp, String msgId, int size);
+	Flux<ChatMessage> getMessagesAfter(String roomId, LocalDateTime timestamp, String msgId, int size);
+	Flux<ChatMessage> getMessagesBeforeSeq(String roomId, long seq, int size);
+	Flux<ChatMessage> getMessagesAfterSeq(String roomId, long seq, int size);
 	Mono<Void> saveChatMessage(ChatMessage message);
 }
@@ -0,0 +1,33 @@
+package kr.co.dataric.chatapi.service.impl;
+
+import kr.co.dataric.chatapi.kafka.producer.KafkaChatProducer;
+import kr.co.dataric.chatapi.wal.ChatWal;
+import kr.co.dataric.common.dto.ChatEnvelope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 수신 채팅 수락 (/ws/chat)
+ * - WAL 사용 시 로컬 fsync 완료가 수락 기준, Kafka 전송은 WalReplayer 가 이어서 처리
+ * - WAL 미사용(chat.wal.enabled=false) 시 Kafka ack 가 수락 기준
+ * - 완료 전에는 방 전송 / 안 읽은 수 반영하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatIngestService {
+	
+	private final ObjectProvider<ChatWal> chatWal;
+	private final KafkaChatProducer kafkaChatProducer;
+	
+	public Mono<Void> accept(ChatEnvelope envelope) {
+		ChatWal wal = chatWal.getIfAvailable();
+		if (wal == null) {
+			return kafkaChatProducer.sendMessage(envelope);
+		}
+		return wal.append(envelope.getRoomId(), envelope.getJson()).then();
+	}
+}
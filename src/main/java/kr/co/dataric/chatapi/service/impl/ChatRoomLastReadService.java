@@ -2,20 +2,15 @@ package kr.co.dataric.chatapi.service.impl;
 
 import kr.co.dataric.chatapi.entity.room.ChatRoomLastRead;
 import kr.co.dataric.chatapi.repository.room.ChatRoomLastReadRepository;
+import kr.co.dataric.chatapi.repository.room.CustomChatRoomLastReadRepository;
+import kr.co.dataric.common.dto.LastReadMarker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 
 @Slf4j
 @Service
@@ -23,33 +18,34 @@ import java.util.Objects;
 public class ChatRoomLastReadService {
 	
 	private final ChatRoomLastReadRepository repository;
-	private final ReactiveStringRedisTemplate redisTemplate;
+	private final CustomChatRoomLastReadRepository customChatRoomLastReadRepository;
+	private final LastReadStore lastReadStore;
+	private final LastReadWriteBehind lastReadWriteBehind;
 	
+	/**
+	 * 방 전체 Redis → Mongo 재동기화 (수동 복구용, 평상시에는 LastReadWriteBehind 가 반영)
+	 * - write-behind 와 같은 필드 단위 조건부 갱신 → Mongo 에 더 최신 위치가 있으면 유지
+	 */
 	public Mono<Void> syncAllLastReadFromRedisToMongo(String roomId) {
-		String keyPattern = "last_read:" + roomId + ":*";
+		return lastReadStore.getAll(roomId)
+			.filter(markers -> !markers.isEmpty())
+			.flatMap(markers -> customChatRoomLastReadRepository.applyLastReads(Map.of(roomId, markers))
+				.doOnSuccess(done -> log.info("✅ Redis → Mongo 동기화 완료 roomId={}, entries={}", roomId, markers.size())));
+	}
+	
+	/**
+	 * ✅ 읽음 위치 저장 후 더 최신으로 갱신된 경우에만 chatReadUpdate 발행
+	 * - payload 에 변경된 위치(msgId, timestamp)를 실어 구독 측이 재조회하지 않도록 함
+	 * - 비교 / 저장 / 안 읽은 수 초기화 / 발행은 Redis 스크립트 1회로 처리 (동시 읽음 이벤트 간 경합 없음)
+	 */
+	public Mono<Void> markRead(String roomId, String userId, LastReadMarker marker) {
+		if (marker == null) {
+			return Mono.empty();
+		}
 		
-		return redisTemplate.scan(ScanOptions.scanOptions().match(keyPattern).count(100).build())
-			.flatMap(key -> redisTemplate.opsForValue().get(key)
-				.filter(Objects::nonNull)
-				.map(value -> {
-					String[] parts = key.split(":");
-					String uid = parts.length >= 3 ? parts[2] : "unknown";
-					return Map.entry(uid, value);
-				}))
-			.collectList()
-			.flatMap(entries -> {
-				return repository.findById(roomId)
-					.defaultIfEmpty(ChatRoomLastRead.builder()
-						.id(roomId)
-						.roomId(roomId)
-						.lastReadMap(new HashMap<>())
-						.build())
-					.flatMap(entity -> {
-						entries.forEach(e -> entity.getLastReadMap().put(e.getKey(), e.getValue()));
-						return repository.save(entity);
-					});
-			})
-			.doOnSuccess(rs -> log.info("✅ Redis → Mongo 동기화 완료 roomId={}, entries={}", roomId, rs.getLastReadMap().size()))
+		return lastReadStore.update(roomId, userId, marker, true)
+			.filter(Boolean::booleanValue)
+			.doOnNext(updated -> lastReadWriteBehind.markDirty(roomId, userId, marker))
 			.then();
 	}
 	
@@ -1,50 +1,128 @@
 package kr.co.dataric.chatapi.service.impl;
 
-import kr.co.dataric.chatapi.entity.onoff.ChatRoomOnline;
-import kr.co.dataric.chatapi.repository.room.ChatRoomOnlineRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.dataric.chatapi.config.presence.PresenceProperties;
+import kr.co.dataric.chatapi.repository.room.CustomChatRoomOnlineRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 방별 온라인 유저 (메모리 우선)
+ * - 유저별 세션 수를 세고 0 ↔ 1 전환 시에만 변경분 기록
+ * - 변경분은 flushInterval 마다 $addToSet / $pull 로 일괄 반영 (재접속 폭주 시 마지막 상태만 기록)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatRoomOnlineService {
 	
-	private final ChatRoomOnlineRepository onlineRepository;
+	private final CustomChatRoomOnlineRepository customChatRoomOnlineRepository;
+	private final PresenceProperties presenceProperties;
+	
+	// roomId -> (userId -> 세션 수), 전환 판단은 compute 안에서만 수행
+	private final Map<String, Map<String, Integer>> roomPresence = new ConcurrentHashMap<>();
+	
+	// roomId -> (userId -> 온라인 여부) : 아직 Mongo 에 반영되지 않은 변경분
+	private final Map<String, Map<String, Boolean>> pendingChanges = new ConcurrentHashMap<>();
+	
+	private Disposable flusher;
+	
+	@PostConstruct
+	public void start() {
+		flusher = Flux.interval(presenceProperties.getFlushInterval())
+			.onBackpressureDrop()
+			.concatMap(tick -> flush())
+			.subscribe();
+	}
+	
+	@PreDestroy
+	public void stop() {
+		if (flusher != null) {
+			flusher.dispose();
+		}
+		try {
+			flush().block(Duration.ofSeconds(3));
+		} catch (Exception e) {
+			log.warn("❗ 종료 시 presence 반영 실패: {}", e.toString());
+		}
+	}
 	
 	// user 추가
-	public Mono<Void> addUserToOnline(String roomId, String userId) {
-		return onlineRepository.findById(roomId)
-			.defaultIfEmpty(ChatRoomOnline.builder()
-				.roomId(roomId)
-				.onlineUsers(new ArrayList<>())
-				.build())
-			.flatMap(room -> {
-				if (!room.getOnlineUsers().contains(userId)) {
-					room.getOnlineUsers().add(userId);
-				}
-				return onlineRepository.save(room);
-			}).then();
+	public void addUserToOnline(String roomId, String userId) {
+		roomPresence.compute(roomId, (key, users) -> {
+			Map<String, Integer> target = users != null ? users : new ConcurrentHashMap<>();
+			if (target.merge(userId, 1, Integer::sum) == 1) {
+				markChanged(roomId, userId, true);
+			}
+			return target;
+		});
 	}
 	
-	public Mono<Void> removeUserFromOnline(String roomId, String userId) {
-		return onlineRepository.findById(roomId)
-			.flatMap(room -> {
-				room.getOnlineUsers().remove(userId);
-				return onlineRepository.save(room);
-			}).then();
+	public void removeUserFromOnline(String roomId, String userId) {
+		roomPresence.computeIfPresent(roomId, (key, users) -> {
+			Integer count = users.get(userId);
+			if (count == null) {
+				return users;
+			}
+			if (count > 1) {
+				users.put(userId, count - 1);
+			} else {
+				users.remove(userId);
+				markChanged(roomId, userId, false);
+			}
+			return users.isEmpty() ? null : users;
+		});
 	}
 	
 	public Mono<List<String>> getOnlineUsers(String roomId) {
-		return onlineRepository.findById(roomId)
-			.map(ChatRoomOnline::getOnlineUsers)
-			.defaultIfEmpty(Collections.emptyList());
+		Map<String, Integer> users = roomPresence.get(roomId);
+		return Mono.just(users != null ? List.copyOf(users.keySet()) : List.of());
 	}
 	
+	private void markChanged(String roomId, String userId, boolean online) {
+		pendingChanges.compute(roomId, (key, changes) -> {
+			Map<String, Boolean> target = changes != null ? changes : new HashMap<>();
+			target.put(userId, online);
+			return target;
+		});
+	}
+	
+	/**
+	 * 누적된 변경분을 떼어내 한 번에 반영 (실패 시 다음 주기에 재시도)
+	 */
+	private Mono<Void> flush() {
+		if (pendingChanges.isEmpty()) {
+			return Mono.empty();
+		}
+		
+		Map<String, Map<String, Boolean>> batch = new HashMap<>();
+		for (String roomId : pendingChanges.keySet()) {
+			Map<String, Boolean> changes = pendingChanges.remove(roomId);
+			if (changes != null) {
+				batch.put(roomId, changes);
+			}
+		}
+		
+		return customChatRoomOnlineRepository.applyPresenceChanges(batch)
+			.onErrorResume(e -> {
+				log.warn("❗ presence 반영 실패, 다음 주기 재시도 - rooms: {}, error: {}", batch.size(), e.toString());
+				batch.forEach((roomId, changes) -> pendingChanges.merge(roomId, changes, (newer, older) -> {
+					Map<String, Boolean> merged = new HashMap<>(older);
+					merged.putAll(newer);
+					return merged;
+				}));
+				return Mono.empty();
+			});
+	}
 }
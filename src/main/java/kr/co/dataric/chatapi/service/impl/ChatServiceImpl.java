@@ -1,25 +1,63 @@
 package kr.co.dataric.chatapi.service.impl;
 
+import kr.co.dataric.chatapi.cache.RecentMessageCache;
 import kr.co.dataric.chatapi.repository.chat.ChatMessageRepository;
+import kr.co.dataric.chatapi.repository.chat.CustomChatMessageRepository;
 import kr.co.dataric.chatapi.service.ChatService;
+import kr.co.dataric.common.dto.ChatMessageDTO;
 import kr.co.dataric.common.entity.ChatMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 // ChatServiceImpl.java 또는 Kafka 메시지 전송 직후 처리
 @Service
 @RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService {
 	
 	private final ChatMessageRepository chatMessageRepository;
+	private final CustomChatMessageRepository customChatMessageRepository;
+	private final RecentMessageCache recentMessageCache;
 	
+	// skip/limit 를 쿼리에 포함 (offset 방식은 하위 호환용, 신규 조회는 커서 사용)
 	@Override
 	public Flux<ChatMessage> getMessagesByRoom(String roomId, int offset, int size) {
-		return chatMessageRepository.findByRoomIdOrderByTimestampDesc(roomId)
-			.skip(offset)
-			.take(size);
+		return customChatMessageRepository.findPage(roomId, offset, size);
+	}
+	
+	// ✅ 최근 메시지 (오래된순) - 링 버퍼 우선, 부족하면 Mongo 조회 후 병합
+	@Override
+	public Flux<ChatMessageDTO> getRecentMessages(String roomId, int size) {
+		return recentMessageCache.recent(roomId, size,
+				limit -> customChatMessageRepository.findPage(roomId, 0, limit).map(ChatMessageDTO::from))
+			.flatMapMany(Flux::fromIterable);
+	}
+	
+	// ✅ 커서 이전(과거) 메시지 - 최신순
+	@Override
+	public Flux<ChatMessage> getMessagesBefore(String roomId, LocalDateTime timestamp, String msgId, int size) {
+		return customChatMessageRepository.findBefore(roomId, timestamp, msgId, size);
+	}
+	
+	// ✅ 커서 이후(신규) 메시지 - 오래된순
+	@Override
+	public Flux<ChatMessage> getMessagesAfter(String roomId, LocalDateTime timestamp, String msgId, int size) {
+		return customChatMessageRepository.findAfter(roomId, timestamp, msgId, size);
+	}
+	
+	// ✅ seq 이전(과거) 메시지 - 최신순
+	@Override
+	public Flux<ChatMessage> getMessagesBeforeSeq(String roomId, long seq, int size) {
+		return customChatMessageRepository.findBeforeSeq(roomId, seq, size);
+	}
+	
+	// ✅ seq 이후(신규 / 빈 번호 보충) 메시지 - 오래된순
+	@Override
+	public Flux<ChatMessage> getMessagesAfterSeq(String roomId, long seq, int size) {
+		return customChatMessageRepository.findAfterSeq(roomId, seq, size);
 	}
 	
 	@Override
@@ -0,0 +1,175 @@
+package kr.co.dataric.chatapi.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.dataric.common.dto.LastReadMarker;
+import kr.co.dataric.common.redis.script.RedisScriptRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 방별 last-read 저장소 (Redis hash)
+ * - last_read:{roomId} { userId -> LastReadMarker(compact) }
+ * - 비교는 seq 우선 (양쪽 모두 있을 때), 없으면 timestamp → msgId
+ * - 방 전체 조회는 HGETALL 1회 (keyspace SCAN 없음)
+ * - 기존 last_read:{roomId}:{userId} 문자열 키는 방 첫 조회 시 hash 로 옮기고 삭제
+ *   → 끝나면 같은 hash 에 MIGRATED_FIELD 기록 (재시작 / 다른 노드도 다시 SCAN 하지 않음)
+ * - 비교 + 저장 + 읽음 발행은 last_read_update.lua 한 번으로 처리 (원자적)
+ * - 키는 {roomId} hash tag → 같은 방 키(online 등)와 같은 slot (Redis Cluster 에서 한 스크립트로 처리 가능)
+ * - 안 읽은 수 초기화(unread:{userId}) 는 유저 slot 이므로 갱신된 경우에만 스크립트 뒤에 이어서 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LastReadStore {
+	
+	private static final String KEY_PREFIX = "last_read:";
+	private static final Duration TTL = Duration.ofDays(30);
+	
+	// 기존 키 이관 완료 표시 (userId 와 겹치지 않는 예약 field)
+	private static final String MIGRATED_FIELD = "#migrated";
+	
+	private final ReactiveStringRedisTemplate redisTemplate;
+	private final RedisScriptRegistry scriptRegistry;
+	private final UnreadBadgeService unreadBadgeService;
+	private final ObjectMapper objectMapper;
+	
+	public static String roomKey(String roomId) {
+		return KEY_PREFIX + "{" + roomId + "}";
+	}
+	
+	/**
+	 * ✅ 방 전체 last-read (userId -> marker)
+	 */
+	public Mono<Map<String, LastReadMarker>> getAll(String roomId) {
+		return entries(roomId).flatMap(entries -> entries.containsKey(MIGRATED_FIELD)
+			? Mono.just(decodeAll(entries))
+			: migrateRoom(roomId).then(entries(roomId)).map(LastReadStore::decodeAll));
+	}
+	
+	/**
+	 * ✅ 방 전체 last-read ("msgId_timestamp" 형식, 화면 / REST 응답용)
+	 */
+	public Mono<Map<String, String>> getAllAsLegacyValues(String roomId) {
+		return getAll(roomId).map(markers -> {
+			Map<String, String> values = new HashMap<>(markers.size());
+			markers.forEach((userId, marker) -> values.put(userId, marker.toLegacyValue()));
+			return values;
+		});
+	}
+	
+	/**
+	 * ✅ 더 최신 위치일 때만 저장 (갱신되면 true, 알림 없음 - 기존 키 이관용)
+	 */
+	public Mono<Boolean> save(String roomId, String userId, LastReadMarker marker) {
+		return update(roomId, userId, marker, false);
+	}
+	
+	/**
+	 * ✅ 읽음 처리 (갱신되면 true)
+	 * - notify=true 이면 스크립트 안에서 chatReadUpdate 발행, 갱신되면 이어서 안 읽은 수 초기화
+	 */
+	public Mono<Boolean> update(String roomId, String userId, LastReadMarker marker, boolean notify) {
+		return Mono.fromCallable(() -> readArgs(roomId, userId, marker, notify))
+			.flatMap(args -> scriptRegistry.execute(RedisScriptRegistry.LAST_READ_UPDATE, List.of(roomKey(roomId)), args))
+			.map(result -> result == 1L)
+			.flatMap(updated -> updated && notify
+				? unreadBadgeService.clear(roomId, userId).thenReturn(true)
+				: Mono.just(updated));
+	}
+	
+	/**
+	 * last_read_lib.lua update_last_read 인자 (presence_update.lua 는 상태 인자 뒤에 이어 붙여 사용)
+	 */
+	public List<String> readArgs(String roomId, String userId, LastReadMarker marker, boolean notify) throws JsonProcessingException {
+		Map<String, String> readDelta = new HashMap<>(marker.toReadEntry(userId));
+		readDelta.put("roomId", roomId);
+		
+		return List.of(
+			userId,
+			marker.encode(),
+			Long.toString(marker.epochMillis()),
+			marker.getMsgId(),
+			Long.toString(TTL.toSeconds()),
+			roomId,
+			objectMapper.writeValueAsString(readDelta),
+			notify ? "1" : "0",
+			Long.toString(marker.getSeq())
+		);
+	}
+	
+	/**
+	 * 기존 문자열 키 1건 이관 + 읽음 발행 (외부 consumer 가 아직 기존 형식으로 기록하는 경우)
+	 * - GETDEL 로 키를 가져간 노드 1곳만 저장 → 갱신되면 스크립트가 chatReadUpdate:{roomId} 로 새 형식 발행
+	 * - 이 노드가 이관해 갱신한 경우에만 marker 반환 (write-behind 대상)
+	 */
+	public Mono<LastReadMarker> migrateUser(String roomId, String userId) {
+		return redisTemplate.opsForValue().getAndDelete(KEY_PREFIX + roomId + ":" + userId)
+			.mapNotNull(LastReadMarker::decode)
+			.filterWhen(marker -> update(roomId, userId, marker, true));
+	}
+	
+	/**
+	 * 방 이관 완료 표시 제거 → 다음 방 조회(getAll) 때 기존 키를 다시 SCAN 이관
+	 */
+	public Mono<Void> resetMigration(String roomId) {
+		return hashOps().remove(roomKey(roomId), MIGRATED_FIELD).then();
+	}
+	
+	// 방 단위 1회 : 기존 키 SCAN 이관 후 완료 표시 (hash 와 같은 TTL)
+	private Mono<Void> migrateRoom(String roomId) {
+		String legacyPrefix = KEY_PREFIX + roomId + ":";
+		return redisTemplate.scan(ScanOptions.scanOptions().match(legacyPrefix + "*").count(100).build())
+			.concatMap(key -> migrateLegacyKey(roomId, key, key.substring(legacyPrefix.length())))
+			.then(hashOps().put(roomKey(roomId), MIGRATED_FIELD, "1"))
+			.then(redisTemplate.expire(roomKey(roomId), TTL))
+			.then();
+	}
+	
+	private Mono<Void> migrateLegacyKey(String roomId, String legacyKey, String userId) {
+		return redisTemplate.opsForValue().get(legacyKey)
+			.mapNotNull(LastReadMarker::decode)
+			.flatMap(marker -> save(roomId, userId, marker))
+			.then(redisTemplate.delete(legacyKey))
+			.doOnNext(deleted -> {
+				if (deleted > 0) {
+					log.debug("🔁 last_read 기존 키 이관: {}", legacyKey);
+				}
+			})
+			.then();
+	}
+	
+	private Mono<Map<String, String>> entries(String roomId) {
+		return hashOps().entries(roomKey(roomId))
+			.collectMap(Map.Entry::getKey, Map.Entry::getValue);
+	}
+	
+	// userId -> marker (예약 field / 해석 불가 값 제외)
+	private static Map<String, LastReadMarker> decodeAll(Map<String, String> entries) {
+		Map<String, LastReadMarker> markers = new HashMap<>(entries.size());
+		entries.forEach((field, value) -> {
+			if (MIGRATED_FIELD.equals(field)) {
+				return;
+			}
+			LastReadMarker marker = LastReadMarker.decode(value);
+			if (marker != null) {
+				markers.put(field, marker);
+			}
+		});
+		return markers;
+	}
+	
+	private ReactiveHashOperations<String, String, String> hashOps() {
+		return redisTemplate.opsForHash();
+	}
+}
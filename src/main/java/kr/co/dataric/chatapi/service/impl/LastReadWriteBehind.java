@@ -0,0 +1,93 @@
+package kr.co.dataric.chatapi.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.dataric.chatapi.config.read.ReadReceiptProperties;
+import kr.co.dataric.chatapi.repository.room.CustomChatRoomLastReadRepository;
+import kr.co.dataric.common.dto.LastReadMarker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * last-read Mongo write-behind
+ * - 갱신된 (roomId, userId) 만 dirty 로 기록하고 mongoFlushInterval 마다 필드 단위로 일괄 반영
+ * - 연결 종료 수와 무관하게 주기당 최대 1회 bulk write
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LastReadWriteBehind {
+	
+	private final CustomChatRoomLastReadRepository customChatRoomLastReadRepository;
+	private final ReadReceiptProperties readReceiptProperties;
+	
+	// roomId -> (userId -> 최신 읽음 위치), 내부 map 은 compute 안에서만 변경
+	private final Map<String, Map<String, LastReadMarker>> dirty = new ConcurrentHashMap<>();
+	
+	private Disposable flusher;
+	
+	@PostConstruct
+	public void start() {
+		flusher = Flux.interval(readReceiptProperties.getMongoFlushInterval())
+			.onBackpressureDrop()
+			.concatMap(tick -> flush())
+			.subscribe();
+	}
+	
+	@PreDestroy
+	public void stop() {
+		if (flusher != null) {
+			flusher.dispose();
+		}
+		try {
+			flush().block(Duration.ofSeconds(5));
+		} catch (Exception e) {
+			log.warn("❗ 종료 시 last-read 반영 실패: {}", e.toString());
+		}
+	}
+	
+	/**
+	 * ✅ dirty 등록 (같은 유저는 더 최신 위치만 유지)
+	 */
+	public void markDirty(String roomId, String userId, LastReadMarker marker) {
+		dirty.compute(roomId, (key, users) -> {
+			Map<String, LastReadMarker> target = users != null ? users : new HashMap<>();
+			target.merge(userId, marker, LastReadWriteBehind::latest);
+			return target;
+		});
+	}
+	
+	private Mono<Void> flush() {
+		if (dirty.isEmpty()) {
+			return Mono.empty();
+		}
+		
+		Map<String, Map<String, LastReadMarker>> batch = new HashMap<>();
+		for (String roomId : dirty.keySet()) {
+			Map<String, LastReadMarker> users = dirty.remove(roomId);
+			if (users != null) {
+				batch.put(roomId, users);
+			}
+		}
+		
+		return customChatRoomLastReadRepository.applyLastReads(batch)
+			.onErrorResume(e -> {
+				log.warn("❗ last-read 반영 실패, 다음 주기 재시도 - rooms: {}, error: {}", batch.size(), e.toString());
+				batch.forEach((roomId, users) -> users.forEach((userId, marker) -> markDirty(roomId, userId, marker)));
+				return Mono.empty();
+			});
+	}
+	
+	private static LastReadMarker latest(LastReadMarker current, LastReadMarker next) {
+		return next.isAfter(current) ? next : current;
+	}
+}
@@ -0,0 +1,112 @@
+package kr.co.dataric.chatapi.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.dataric.chatapi.config.security.PasswordHashProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 비밀번호 검증 전용 워커 풀
+ * - Netty event loop 에서 해시 연산을 하지 않도록 고정 크기 풀로 분리
+ * - 대기 큐가 가득 차면 즉시 거절 (PasswordHashBusyException) → 로그인 폭주 시에도 채팅 전달 지연 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordVerifyService {
+	
+	private final PasswordEncoder passwordEncoder;
+	private final PasswordHashProperties properties;
+	private final MeterRegistry meterRegistry;
+	
+	private ThreadPoolExecutor executor;
+	private Timer hashTimer;
+	private Counter rejectedCounter;
+	
+	@PostConstruct
+	public void init() {
+		int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+		executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+			new CustomizableThreadFactory("password-hash-"),
+			new ThreadPoolExecutor.AbortPolicy());
+		
+		Gauge.builder("chat.login.hash.queue.depth", executor, e -> e.getQueue().size())
+			.description("BCrypt 검증 대기 중인 요청 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.login.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+			.register(meterRegistry);
+		hashTimer = Timer.builder("chat.login.hash.latency")
+			.description("BCrypt 검증 소요 시간")
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		rejectedCounter = Counter.builder("chat.login.hash.rejected")
+			.register(meterRegistry);
+		
+		log.info("🔐 비밀번호 검증 풀 초기화 - threads: {}, queueCapacity: {}", threads, properties.getQueueCapacity());
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+	
+	/**
+	 * ✅ 비밀번호 일치 여부 (워커 풀에서 실행, 결과는 parallel scheduler 로 복귀)
+	 */
+	public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+		return Mono.<Boolean>create(sink -> {
+				try {
+					Future<?> task = executor.submit(() -> {
+						long start = System.nanoTime();
+						try {
+							sink.success(passwordEncoder.matches(rawPassword, encodedPassword));
+						} catch (Exception e) {
+							sink.error(e);
+						} finally {
+							hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+						}
+					});
+					sink.onCancel(() -> task.cancel(false));
+				} catch (RejectedExecutionException e) {
+					rejectedCounter.increment();
+					log.warn("⚠️ 비밀번호 검증 대기열 초과 - queue: {}", executor.getQueue().size());
+					sink.error(new PasswordHashBusyException(properties.getRetryAfter()));
+				}
+			})
+			.publishOn(Schedulers.parallel());
+	}
+	
+	/**
+	 * 검증 대기열이 가득 차 요청을 받지 않을 때 발생
+	 */
+	public static class PasswordHashBusyException extends RuntimeException {
+		private final Duration retryAfter;
+		
+		public PasswordHashBusyException(Duration retryAfter) {
+			super("비밀번호 검증 대기열 초과");
+			this.retryAfter = retryAfter;
+		}
+		
+		public Duration getRetryAfter() {
+			return retryAfter;
+		}
+	}
+}
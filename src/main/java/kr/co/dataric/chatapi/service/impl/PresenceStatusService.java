@@ -0,0 +1,72 @@
+package kr.co.dataric.chatapi.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.dataric.common.dto.LastReadMarker;
+import kr.co.dataric.common.redis.script.RedisScriptRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * online / offline 상태 변경 (ReadStatusController)
+ * - 상태 저장 + onlineUpdate:{roomId} 발행 + 읽음 위치 갱신을 presence_update.lua 1회로 처리
+ * - online:{roomId}:{userId} 는 last_read:{roomId} 와 같은 {roomId} hash tag (Redis Cluster 같은 slot)
+ * - 기존 SET → PUBLISH → GET → HSET → EXPIRE → PUBLISH 순차 왕복 제거
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresenceStatusService {
+	
+	private static final String KEY_PREFIX = "online:";
+	private static final Duration ONLINE_TTL = Duration.ofMinutes(30);
+	
+	private final RedisScriptRegistry scriptRegistry;
+	private final LastReadStore lastReadStore;
+	private final LastReadWriteBehind lastReadWriteBehind;
+	private final UnreadBadgeService unreadBadgeService;
+	private final ObjectMapper objectMapper;
+	
+	public static String onlineKey(String roomId, String userId) {
+		return KEY_PREFIX + "{" + roomId + "}:" + userId;
+	}
+	
+	/**
+	 * ✅ 상태 변경 (marker 가 null 이면 상태만 변경)
+	 */
+	public Mono<Void> updateStatus(String roomId, String userId, String status, LastReadMarker marker) {
+		return Mono.fromCallable(() -> {
+				List<String> args = new ArrayList<>();
+				args.add(roomId);
+				args.add(status);
+				args.add(Long.toString(ONLINE_TTL.toSeconds()));
+				args.add(objectMapper.writeValueAsString(Map.of(
+					"roomId", roomId,
+					"userId", userId,
+					"status", status,
+					"type", "status"
+				)));
+				if (marker != null) {
+					args.addAll(lastReadStore.readArgs(roomId, userId, marker, true));
+				}
+				return args;
+			})
+			.flatMap(args -> scriptRegistry.execute(RedisScriptRegistry.PRESENCE_UPDATE,
+				List.of(onlineKey(roomId, userId), LastReadStore.roomKey(roomId)), args))
+			.flatMap(result -> {
+				log.info("사용자 {} 처리: {}", status, onlineKey(roomId, userId));
+				if (result != 1L) {
+					return Mono.empty();
+				}
+				lastReadWriteBehind.markDirty(roomId, userId, marker);
+				return unreadBadgeService.clear(roomId, userId);
+			})
+			.then();
+	}
+}
@@ -0,0 +1,49 @@
+package kr.co.dataric.chatapi.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import kr.co.dataric.chatapi.cache.RecentMessageCache;
+import kr.co.dataric.chatapi.config.cluster.RoomAffinityRouter;
+import kr.co.dataric.chatapi.config.cluster.RoomMovedException;
+import kr.co.dataric.chatapi.config.sink.ChatSinkManager;
+import kr.co.dataric.chatapi.config.sink.StatusSinkManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * AFFINITY 모드 ring 변경 시 더 이상 담당하지 않는 방 정리
+ * - /ws/chat, /ws/rs 세션은 RoomMovedException.CLOSE_STATUS 로 종료 → 재연결 시 새 담당 노드로 redirect
+ * - 최근 메시지 링은 무효화 (다시 담당하게 되면 그 사이 메시지가 빠진 링을 쓰지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomHandoffService {
+	
+	private final RoomAffinityRouter roomAffinityRouter;
+	private final ChatSinkManager chatSinkManager;
+	private final StatusSinkManager statusSinkManager;
+	private final RecentMessageCache recentMessageCache;
+	
+	@PostConstruct
+	public void init() {
+		if (roomAffinityRouter.isAffinityMode()) {
+			roomAffinityRouter.addRingListener(this::handOff);
+		}
+	}
+	
+	private void handOff() {
+		Predicate<String> moved = roomId -> !roomAffinityRouter.isLocal(roomId);
+		
+		List<String> chatRooms = chatSinkManager.closeRooms(moved, RoomMovedException::new);
+		List<String> statusRooms = statusSinkManager.closeRooms(moved, RoomMovedException::new);
+		recentMessageCache.invalidateIf(moved);
+		
+		if (!chatRooms.isEmpty() || !statusRooms.isEmpty()) {
+			log.info("↪️ 담당 노드 변경으로 방 세션 종료 - chat: {}, status: {}", chatRooms, statusRooms);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package kr.co.dataric.chatapi.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import kr.co.dataric.chatapi.config.cluster.RoomAffinityRouter;
+import kr.co.dataric.chatapi.config.sequence.SequenceProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 방 단위 단조 증가 seq 발급 (room_seq:{roomId})
+ * - BROADCAST : 메시지마다 INCR (모든 노드가 같은 방에 쓸 수 있음)
+ * - AFFINITY  : 방 담당 노드가 INCRBY blockSize 로 구간을 예약해 로컬에서 발급 (Redis 왕복 blockSize 건당 1회)
+ * - 예약 구간은 ring 변경 / LRU 제거 시 버림 → 남은 번호는 건너뛰지만 역행하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomSequenceService {
+	
+	private static final String KEY_PREFIX = "room_seq:";
+	
+	private final ReactiveStringRedisTemplate redisTemplate;
+	private final RoomAffinityRouter roomAffinityRouter;
+	private final SequenceProperties sequenceProperties;
+	
+	private final Map<String, Lease> leases = Collections.synchronizedMap(
+		new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Lease> eldest) {
+				return size() > sequenceProperties.getMaxLeasedRooms();
+			}
+		});
+	
+	@PostConstruct
+	public void init() {
+		// 담당 노드가 바뀌면 새 담당 노드가 더 큰 구간을 예약하므로 기존 구간은 사용하지 않음
+		roomAffinityRouter.addRingListener(leases::clear);
+	}
+	
+	public static String key(String roomId) {
+		return KEY_PREFIX + roomId;
+	}
+	
+	/**
+	 * ✅ 다음 seq
+	 */
+	public Mono<Long> next(String roomId) {
+		if (!roomAffinityRouter.isAffinityMode()) {
+			return redisTemplate.opsForValue().increment(key(roomId));
+		}
+		
+		Lease lease = leases.computeIfAbsent(roomId, id -> new Lease());
+		Mono<Void> refill;
+		synchronized (lease) {
+			if (lease.next <= lease.end) {
+				return Mono.just(lease.next++);
+			}
+			if (lease.refill == null) {
+				int blockSize = sequenceProperties.getBlockSize();
+				lease.refill = redisTemplate.opsForValue().increment(key(roomId), blockSize)
+					.doOnNext(end -> {
+						synchronized (lease) {
+							lease.next = end - blockSize + 1;
+							lease.end = end;
+						}
+					})
+					.doFinally(signal -> {
+						synchronized (lease) {
+							lease.refill = null;
+						}
+					})
+					.then()
+					.cache();
+			}
+			refill = lease.refill;
+		}
+		// 예약 완료 후 다시 발급 (그 사이 소진되면 다음 구간 예약)
+		return refill.then(Mono.defer(() -> next(roomId)));
+	}
+	
+	/**
+	 * 방 하나의 예약 구간 [next, end] (lease 객체 lock 으로 보호)
+	 */
+	private static final class Lease {
+		private long next = 1;
+		private long end = 0;
+		private Mono<Void> refill;
+	}
+}
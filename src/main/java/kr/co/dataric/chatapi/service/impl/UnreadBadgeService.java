@@ -0,0 +1,125 @@
+package kr.co.dataric.chatapi.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.dataric.chatapi.config.notify.NotifyProperties;
+import kr.co.dataric.chatapi.repository.room.CustomChatRoomRepository;
+import kr.co.dataric.common.redis.service.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저별 방 안 읽은 수 (Redis hash)
+ * - unread:{userId} { roomId -> count }
+ * - 메시지 전송 시 보낸 사람을 제외한 참여자 HINCRBY (참여자는 클라이언트 값이 아닌 방 문서 기준, 짧게 캐시)
+ * - 참여자별 HINCRBY / 발행은 RedisService.pipeline 으로 묶어 전송
+ * - 읽음 위치가 갱신되면 HDEL + 발행 (방 키와 slot 이 달라 읽음 스크립트와 분리)
+ * - 변경된 카운트는 unreadUpdate:{userId} 채널로 유저별 발행 (해당 유저의 /ws/notify 가 있는 노드만 구독)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadBadgeService {
+	
+	public static final String CHANNEL_PREFIX = "unreadUpdate:";
+	private static final String KEY_PREFIX = "unread:";
+	
+	private final ReactiveStringRedisTemplate redisTemplate;
+	private final CustomChatRoomRepository customChatRoomRepository;
+	private final ObjectMapper objectMapper;
+	private final NotifyProperties notifyProperties;
+	private final RedisService redisService;
+	
+	// roomId -> 참여자 조회 (memberCacheTtl 동안 결과 재사용, 빈 목록 / 오류는 캐시하지 않음)
+	private final Map<String, Mono<List<String>>> members = Collections.synchronizedMap(
+		new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Mono<List<String>>> eldest) {
+				return size() > notifyProperties.getMemberCacheMaxRooms();
+			}
+		});
+	
+	public static String userKey(String userId) {
+		return KEY_PREFIX + userId;
+	}
+	
+	public static String channel(String userId) {
+		return CHANNEL_PREFIX + userId;
+	}
+	
+	/**
+	 * ✅ 새 메시지 → 보낸 사람 제외 참여자 카운트 +1
+	 */
+	public Mono<Void> onMessage(String roomId, String sender) {
+		return members(roomId)
+			.map(list -> list.stream().filter(userId -> !userId.equals(sender)).distinct().toList())
+			.filter(targets -> !targets.isEmpty())
+			// 참여자 수만큼의 HINCRBY / PUBLISH 를 각각 pipeline 1회로 전송
+			.flatMap(targets -> redisService.pipeline(targets.stream()
+					.map(userId -> hashOps().increment(userKey(userId), roomId, 1))
+					.toList())
+				.flatMap(counts -> {
+					List<Mono<Long>> publishes = new ArrayList<>(targets.size());
+					for (int i = 0; i < targets.size(); i++) {
+						String userId = targets.get(i);
+						counts.get(i).ifPresent(count -> publishes.add(publish(userId, roomId, ((Number) count).longValue())));
+					}
+					return redisService.pipeline(publishes);
+				}))
+			.doOnError(e -> log.warn("❗ 안 읽은 수 증가 실패 - roomId: {}, error: {}", roomId, e.toString()))
+			.then();
+	}
+	
+	/**
+	 * ✅ 읽음 처리 → 방 안 읽은 수 삭제 (있었으면 0 으로 발행)
+	 */
+	public Mono<Void> clear(String roomId, String userId) {
+		return hashOps().remove(userKey(userId), roomId)
+			.filter(removed -> removed > 0)
+			.flatMap(removed -> publish(userId, roomId, 0))
+			.then();
+	}
+	
+	/**
+	 * ✅ 유저의 전체 방 안 읽은 수
+	 */
+	public Mono<Map<String, Long>> getAll(String userId) {
+		return hashOps().entries(userKey(userId))
+			.collectMap(Map.Entry::getKey, entry -> Long.parseLong(entry.getValue()));
+	}
+	
+	private Mono<List<String>> members(String roomId) {
+		return members.computeIfAbsent(roomId, key -> customChatRoomRepository.findParticipants(key)
+			.cache(
+				list -> list.isEmpty() ? Duration.ZERO : notifyProperties.getMemberCacheTtl(),
+				error -> Duration.ZERO,
+				() -> Duration.ZERO));
+	}
+	
+	private Mono<Long> publish(String userId, String roomId, long count) {
+		try {
+			String payload = objectMapper.writeValueAsString(Map.of(
+				"roomId", roomId,
+				"count", count
+			));
+			return redisTemplate.convertAndSend(channel(userId), payload);
+		} catch (JsonProcessingException e) {
+			return Mono.error(e);
+		}
+	}
+	
+	private ReactiveHashOperations<String, String, String> hashOps() {
+		return redisTemplate.opsForHash();
+	}
+}
@@ -1,21 +1,26 @@
 package kr.co.dataric.chatapi.subscriber;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.dataric.chatapi.cache.UnreadCountIndex;
+import kr.co.dataric.chatapi.config.sink.ReadReceiptBroadcaster;
+import kr.co.dataric.chatapi.config.sink.StatusSinkManager;
+import kr.co.dataric.chatapi.config.sink.UnreadBadgeBroadcaster;
 import kr.co.dataric.chatapi.handler.ReadWebSocketHandler;
 import kr.co.dataric.chatapi.handler.ReadStatusWebSocketHandler;
+import kr.co.dataric.chatapi.service.impl.LastReadStore;
+import kr.co.dataric.chatapi.service.impl.LastReadWriteBehind;
+import kr.co.dataric.chatapi.service.impl.UnreadBadgeService;
+import kr.co.dataric.common.dto.LastReadMarker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 
 @Slf4j
 @Component
@@ -24,16 +29,25 @@ public class ChatRedisSubscriber implements MessageListener {
 	
 	private final ObjectMapper objectMapper;
 	private final ReadStatusWebSocketHandler readStatusWebSocketHandler;
+	private final ReadReceiptBroadcaster readReceiptBroadcaster;
+	private final UnreadBadgeBroadcaster unreadBadgeBroadcaster;
 	private final ReadWebSocketHandler readWebSocketHandler;
-	private final ReactiveRedisTemplate<String, String> redisTemplate;
+	private final LastReadStore lastReadStore;
+	private final UnreadCountIndex unreadCountIndex;
+	private final LastReadWriteBehind lastReadWriteBehind;
+	private final StatusSinkManager statusSinkManager;
 	
 	@Override
 	public void onMessage(Message message, byte[] pattern) {
-		String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
-		String json = new String(message.getBody(), StandardCharsets.UTF_8);
-
+		dispatch(new String(message.getChannel(), StandardCharsets.UTF_8), new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * ✅ 채널별 처리 (전역 채널 + RoomTopicSubscriber 의 방 채널 + UserTopicSubscriber 의 유저 채널 공용)
+	 */
+	public void dispatch(String channel, String json) {
 		try {
-			if ("onlineUpdate".equals(channel)) {
+			if (channel.startsWith(RoomTopicSubscriber.STATUS_CHANNEL_PREFIX)) {
 				Map<String, String> payload = objectMapper.readValue(json, new TypeReference<>() {});
 				String roomId = payload.get("roomId");
 				String userId = payload.get("userId");
@@ -42,40 +56,40 @@ public class ChatRedisSubscriber implements MessageListener {
 				log.info("Online 상태 변경 수신: roomId={}, userId={}, status={}", roomId, userId, status);
 				
 				readStatusWebSocketHandler.broadcastUserStatus(roomId, userId, status);
-			} else if("chatReadUpdate".equals(channel)) {
+			} else if ("chatReadUpdate".equals(channel)) {
+				// 기존 형식 발행 (roomId, userId 만 포함, 전역 채널 → 모든 노드 수신)
 				Map<String, String> payload = objectMapper.readValue(json, new TypeReference<>() {});
 				String roomId = payload.get("roomId");
 				String userId = payload.get("userId");
 				
-				String keyPattern = "last_read:" + roomId +":*";
-				
-				redisTemplate.scan(ScanOptions.scanOptions().match(keyPattern).count(100).build())
-					.flatMap(key -> redisTemplate.opsForValue().get(key)
-						.filter(Objects::nonNull)
-						.map(value -> {
-							String[] parts = key.split(":");
-							String uid = parts.length >= 3 ? parts[2] : "unknown";
-							
-							String[] msgParts = value.split("_", 2);
-							String msgId = msgParts.length > 0 ? msgParts[0] : "INITIAL";
-							String timestamp = msgParts.length > 1 ? msgParts[1] : "1970-01-01T00:00:00.123";
-							
-							return Map.of(
-								"userId", uid,
-								"msgId", msgId,
-								"timestamp", timestamp
-							);
-						}))
-					.collectList()
-					.doOnNext(userReadList -> {
-						log.info("전체 userRedisList 전송: {}", userReadList);
-						readStatusWebSocketHandler.broadcastUserRead(roomId, userId, userReadList);
-					})
+				if (!statusSinkManager.hasRoom(roomId)) {
+					// 로컬 세션 없음 → 전달할 곳 없음, 방을 다음에 여는 노드가 기존 키를 이관하도록 표시만 제거
+					lastReadStore.resetMigration(roomId).subscribe();
+					return;
+				}
+				// 기존 키를 가져간 노드 1곳만 저장 / write-behind → 전달은 방 채널 발행을 받은 각 노드가 처리
+				lastReadStore.migrateUser(roomId, userId)
+					.doOnNext(latest -> lastReadWriteBehind.markDirty(roomId, userId, latest))
 					.subscribe();
+			} else if (channel.startsWith(RoomTopicSubscriber.READ_CHANNEL_PREFIX)) {
+				Map<String, String> payload = objectMapper.readValue(json, new TypeReference<>() {});
+				String roomId = payload.get("roomId");
+				String userId = payload.get("userId");
+				
+				// ✅ 변경분이 payload 에 포함 → 재조회 없이 delta 적재
+				LastReadMarker marker = LastReadMarker.of(payload.get("msgId"), payload.get("timestamp"), payload.get("seq"));
+				if (marker != null) {
+					readReceiptBroadcaster.enqueue(roomId, userId, marker);
+					unreadCountIndex.onRead(roomId, userId, marker);
+				}
+			} else if (channel.startsWith(UnreadBadgeService.CHANNEL_PREFIX)) {
+				// ✅ UserTopicSubscriber 의 유저 채널 (이 노드에 알림 소켓이 연결된 유저만 구독)
+				JsonNode payload = objectMapper.readTree(json);
+				String userId = channel.substring(UnreadBadgeService.CHANNEL_PREFIX.length());
+				unreadBadgeBroadcaster.enqueue(userId, payload.path("roomId").asText(), payload.path("count").asLong());
 			}
 		} catch (Exception e) {
 			log.error("Online 상태 수신 처리 실패");
 		}
-		
 	}
 }
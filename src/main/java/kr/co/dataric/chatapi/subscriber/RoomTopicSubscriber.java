@@ -0,0 +1,96 @@
+package kr.co.dataric.chatapi.subscriber;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.co.dataric.chatapi.cache.UnreadCountIndex;
+import kr.co.dataric.chatapi.config.redis.PubSubProperties;
+import kr.co.dataric.chatapi.config.sink.StatusSinkManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방 단위 상태 / 읽음 채널 구독 (onlineUpdate:{roomId}, chatReadUpdate:{roomId})
+ * - 로컬 /ws/rs 세션이 있는 방만 구독 → 노드별 pub/sub 부하가 전체 트래픽이 아닌 로컬 방 수에 비례
+ * - 마지막 세션이 끊기면 idleGrace 후에도 세션이 없을 때 구독 해제
+ * - 모든 방 구독은 ReactiveRedisMessageListenerContainer 의 연결 1개로 다중화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomTopicSubscriber {
+	
+	public static final String STATUS_CHANNEL_PREFIX = "onlineUpdate:";
+	public static final String READ_CHANNEL_PREFIX = "chatReadUpdate:";
+	
+	private final ReactiveRedisMessageListenerContainer listenerContainer;
+	private final StatusSinkManager statusSinkManager;
+	private final ChatRedisSubscriber chatRedisSubscriber;
+	private final UnreadCountIndex unreadCountIndex;
+	private final PubSubProperties pubSubProperties;
+	private final MeterRegistry meterRegistry;
+	
+	// roomId -> 방 채널 구독 (compute 안에서만 생성 / 해제)
+	private final Map<String, Disposable> subscriptions = new ConcurrentHashMap<>();
+	
+	public static String statusChannel(String roomId) {
+		return STATUS_CHANNEL_PREFIX + roomId;
+	}
+	
+	public static String readChannel(String roomId) {
+		return READ_CHANNEL_PREFIX + roomId;
+	}
+	
+	@PostConstruct
+	public void init() {
+		statusSinkManager.addRoomListener(this::onRoomChanged);
+		Gauge.builder("chat.pubsub.rooms", subscriptions, Map::size).register(meterRegistry);
+	}
+	
+	private void onRoomChanged(String roomId) {
+		if (statusSinkManager.hasRoom(roomId)) {
+			reconcile(roomId);
+		} else {
+			Mono.delay(pubSubProperties.getIdleGrace())
+				.subscribe(tick -> reconcile(roomId));
+		}
+	}
+	
+	/**
+	 * ✅ 현재 세션 유무에 맞춰 구독 상태 맞춤 (활성 / 유휴 알림 순서가 뒤바뀌어도 최종 상태 기준)
+	 */
+	private void reconcile(String roomId) {
+		boolean active = statusSinkManager.hasRoom(roomId);
+		subscriptions.compute(roomId, (key, current) -> {
+			if (active && current == null) {
+				log.debug("📡 방 채널 구독 - roomId: {}", roomId);
+				return subscribe(roomId);
+			}
+			if (!active && current != null) {
+				log.debug("📴 방 채널 구독 해제 - roomId: {}", roomId);
+				current.dispose();
+				// 구독이 끊기면 읽음 이벤트를 받지 못하므로 인덱스도 버림
+				unreadCountIndex.evict(roomId);
+				return null;
+			}
+			return current;
+		});
+	}
+	
+	private Disposable subscribe(String roomId) {
+		return listenerContainer.receive(ChannelTopic.of(statusChannel(roomId)), ChannelTopic.of(readChannel(roomId)))
+			.doOnError(e -> log.warn("❗ 방 채널 구독 오류 - roomId: {}, error: {}", roomId, e.toString()))
+			.retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+			.subscribe(message -> chatRedisSubscriber.dispatch(message.getChannel(), message.getMessage()));
+	}
+}
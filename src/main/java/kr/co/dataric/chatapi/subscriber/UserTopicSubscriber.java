@@ -0,0 +1,82 @@
+package kr.co.dataric.chatapi.subscriber;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.co.dataric.chatapi.config.redis.PubSubProperties;
+import kr.co.dataric.chatapi.config.sink.NotifySinkManager;
+import kr.co.dataric.chatapi.service.impl.UnreadBadgeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저 단위 안 읽은 수 채널 구독 (unreadUpdate:{userId})
+ * - 로컬 /ws/notify 세션이 있는 유저만 구독 → 메시지 1건의 카운트 변경은 해당 유저가 연결된 노드만 수신
+ * - 마지막 세션이 끊기면 idleGrace 후에도 세션이 없을 때 구독 해제
+ * - RoomTopicSubscriber 와 같은 ReactiveRedisMessageListenerContainer 연결 1개로 다중화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserTopicSubscriber {
+	
+	private final ReactiveRedisMessageListenerContainer listenerContainer;
+	private final NotifySinkManager notifySinkManager;
+	private final ChatRedisSubscriber chatRedisSubscriber;
+	private final PubSubProperties pubSubProperties;
+	private final MeterRegistry meterRegistry;
+	
+	// userId -> 유저 채널 구독 (compute 안에서만 생성 / 해제)
+	private final Map<String, Disposable> subscriptions = new ConcurrentHashMap<>();
+	
+	@PostConstruct
+	public void init() {
+		notifySinkManager.addUserListener(this::onUserChanged);
+		Gauge.builder("chat.pubsub.users", subscriptions, Map::size).register(meterRegistry);
+	}
+	
+	private void onUserChanged(String userId) {
+		if (notifySinkManager.isConnected(userId)) {
+			reconcile(userId);
+		} else {
+			Mono.delay(pubSubProperties.getIdleGrace())
+				.subscribe(tick -> reconcile(userId));
+		}
+	}
+	
+	/**
+	 * ✅ 현재 세션 유무에 맞춰 구독 상태 맞춤 (연결 / 해제 알림 순서가 뒤바뀌어도 최종 상태 기준)
+	 */
+	private void reconcile(String userId) {
+		boolean active = notifySinkManager.isConnected(userId);
+		subscriptions.compute(userId, (key, current) -> {
+			if (active && current == null) {
+				log.debug("📡 유저 채널 구독 - userId: {}", userId);
+				return subscribe(userId);
+			}
+			if (!active && current != null) {
+				log.debug("📴 유저 채널 구독 해제 - userId: {}", userId);
+				current.dispose();
+				return null;
+			}
+			return current;
+		});
+	}
+	
+	private Disposable subscribe(String userId) {
+		return listenerContainer.receive(ChannelTopic.of(UnreadBadgeService.channel(userId)))
+			.doOnError(e -> log.warn("❗ 유저 채널 구독 오류 - userId: {}, error: {}", userId, e.toString()))
+			.retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+			.subscribe(message -> chatRedisSubscriber.dispatch(message.getChannel(), message.getMessage()));
+	}
+}
@@ -0,0 +1,432 @@
+package kr.co.dataric.chatapi.wal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * 수신 채팅 로컬 write-ahead log (append-only mmap segment)
+ * - append 는 lock 안에서 mmap 복사만, fsync 는 전용 스레드가 모아서 1회 (group commit)
+ * - append Mono 는 fsync 후 완료 → 이후에만 방 전송 / 클라이언트 반영
+ * - Kafka 전송은 WalReplayer 가 순서대로, ack 된 위치는 checkpoint 로 기록 후 지난 segment 삭제
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.wal", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ChatWal {
+	
+	private static final String CHECKPOINT_FILE = "checkpoint";
+	
+	private final WalProperties walProperties;
+	private final MeterRegistry meterRegistry;
+	
+	private final ConcurrentSkipListMap<Long, WalSegment> segments = new ConcurrentSkipListMap<>();
+	private final Queue<PendingSync> pendingSyncs = new ConcurrentLinkedQueue<>();
+	private final List<Runnable> durableListeners = new ArrayList<>();
+	private final Object writeLock = new Object();
+	
+	private Path directory;
+	private int segmentSize;
+	private WalSegment active;
+	private long nextSeq;
+	
+	private volatile long writtenSeq;
+	private volatile long durableSeq;
+	private volatile long ackedSeq;
+	private volatile boolean running;
+	private long checkpointedSeq;
+	
+	private Thread syncThread;
+	private Disposable checkpointTicker;
+	
+	private Timer fsyncTimer;
+	private DistributionSummary groupSize;
+	private Counter rejectedCounter;
+	private Counter rolledBackCounter;
+	
+	@PostConstruct
+	public void open() throws IOException {
+		directory = Path.of(walProperties.getDirectory());
+		segmentSize = (int) walProperties.getSegmentSize().toBytes();
+		Files.createDirectories(directory);
+		
+		checkpointedSeq = readCheckpoint();
+		ackedSeq = checkpointedSeq;
+		
+		List<Path> files;
+		try (Stream<Path> list = Files.list(directory)) {
+			files = list.filter(path -> path.getFileName().toString().endsWith(WalSegment.SUFFIX)).sorted().toList();
+		}
+		for (Path file : files) {
+			WalSegment segment = WalSegment.open(file, segmentSize);
+			segments.put(segment.getBaseSeq(), segment);
+		}
+		
+		long lastSeq = segments.isEmpty() ? checkpointedSeq : Math.max(segments.lastEntry().getValue().getLastSeq(), checkpointedSeq);
+		if (segments.isEmpty() || segments.lastEntry().getValue().getLastSeq() < checkpointedSeq) {
+			WalSegment segment = WalSegment.create(directory, lastSeq + 1, segmentSize);
+			segments.put(segment.getBaseSeq(), segment);
+		}
+		active = segments.lastEntry().getValue();
+		nextSeq = lastSeq + 1;
+		writtenSeq = lastSeq;
+		durableSeq = lastSeq;
+		log.info("📒 WAL 열기 - dir: {}, segments: {}, checkpoint: {}, lastSeq: {}", directory, segments.size(), checkpointedSeq, lastSeq);
+		
+		fsyncTimer = Timer.builder("chat.wal.fsync").register(meterRegistry);
+		groupSize = DistributionSummary.builder("chat.wal.group.size")
+			.description("fsync 1회당 반영된 레코드 수")
+			.register(meterRegistry);
+		rejectedCounter = Counter.builder("chat.wal.rejected")
+			.description("max-size 초과로 거부한 레코드")
+			.register(meterRegistry);
+		rolledBackCounter = Counter.builder("chat.wal.rolled.back")
+			.description("fsync 실패로 버린 레코드")
+			.register(meterRegistry);
+		Gauge.builder("chat.wal.backlog", this, wal -> wal.durableSeq - wal.ackedSeq)
+			.description("fsync 완료 후 Kafka ack 대기 레코드 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.wal.segments", segments, Map::size).register(meterRegistry);
+		
+		running = true;
+		syncThread = new Thread(this::syncLoop, "chat-wal-sync");
+		syncThread.setDaemon(true);
+		syncThread.start();
+		
+		checkpointTicker = Schedulers.boundedElastic().schedulePeriodically(this::checkpoint,
+			walProperties.getCheckpointInterval().toMillis(), walProperties.getCheckpointInterval().toMillis(), TimeUnit.MILLISECONDS);
+	}
+	
+	@PreDestroy
+	public void close() {
+		running = false;
+		if (checkpointTicker != null) {
+			checkpointTicker.dispose();
+		}
+		if (syncThread != null) {
+			LockSupport.unpark(syncThread);
+			try {
+				syncThread.join(5000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		checkpoint();
+		for (WalSegment segment : segments.values()) {
+			try {
+				segment.close();
+			} catch (IOException e) {
+				log.warn("❗ WAL segment 닫기 실패 - {}: {}", segment.getPath(), e.toString());
+			}
+		}
+	}
+	
+	/**
+	 * ✅ 레코드 기록 → fsync 완료 시 seq 반환
+	 * - 완료 신호는 parallel 스케줄러로 넘김 (sync 스레드는 fsync 만 수행)
+	 */
+	public Mono<Long> append(String key, byte[] payload) {
+		return Mono.<Long>create(sink -> {
+			byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+			if (WalSegment.recordSize(keyBytes, payload) + Integer.BYTES > segmentSize) {
+				sink.error(new IllegalArgumentException("WAL 레코드가 segment 보다 큼: " + payload.length));
+				return;
+			}
+			
+			synchronized (writeLock) {
+				if (!running) {
+					sink.error(new IllegalStateException("WAL 종료됨"));
+					return;
+				}
+				if (!active.hasRoom(keyBytes.length, payload.length)) {
+					if ((long) segments.size() * segmentSize >= walProperties.getMaxSize().toBytes()) {
+						rejectedCounter.increment();
+						sink.error(new WalFullException(walProperties.getMaxSize().toBytes()));
+						return;
+					}
+					try {
+						roll();
+					} catch (IOException e) {
+						sink.error(new UncheckedIOException(e));
+						return;
+					}
+				}
+				
+				long seq = nextSeq++;
+				active.append(seq, keyBytes, payload);
+				pendingSyncs.offer(new PendingSync(seq, sink));
+				writtenSeq = seq;
+			}
+			LockSupport.unpark(syncThread);
+		}).publishOn(Schedulers.parallel());
+	}
+	
+	/**
+	 * ✅ fsync 완료된 seq 이후 레코드 읽기용 cursor
+	 */
+	public Cursor cursor(long afterSeq) {
+		return new Cursor(afterSeq);
+	}
+	
+	/**
+	 * ✅ Kafka ack 위치 반영 (연속 구간의 마지막 seq, checkpoint 주기에 파일 기록)
+	 */
+	public void acknowledge(long seq) {
+		if (seq > ackedSeq) {
+			ackedSeq = seq;
+		}
+	}
+	
+	public long getAckedSeq() {
+		return ackedSeq;
+	}
+	
+	public long getDurableSeq() {
+		return durableSeq;
+	}
+	
+	/**
+	 * fsync 로 durableSeq 가 올라갈 때마다 호출 (sync 스레드에서 실행 → 가볍게 유지)
+	 */
+	public void addDurableListener(Runnable listener) {
+		synchronized (durableListeners) {
+			durableListeners.add(listener);
+		}
+	}
+	
+	// 현재 segment fsync 후 새 segment 로 전환 (writeLock 안)
+	private void roll() throws IOException {
+		active.force();
+		WalSegment segment = WalSegment.create(directory, nextSeq, segmentSize);
+		segments.put(segment.getBaseSeq(), segment);
+		active = segment;
+		log.info("📒 WAL segment 전환 - baseSeq: {}", segment.getBaseSeq());
+	}
+	
+	private void syncLoop() {
+		while (running || writtenSeq > durableSeq) {
+			if (writtenSeq <= durableSeq) {
+				LockSupport.park(this);
+				continue;
+			}
+			
+			long delay = walProperties.getGroupCommitDelay().toNanos();
+			if (delay > 0 && running) {
+				LockSupport.parkNanos(this, delay);
+			}
+			
+			// target 을 먼저 읽고 active 를 읽음 → 그 사이 전환된 segment 는 roll() 에서 이미 fsync
+			long target = writtenSeq;
+			WalSegment segment;
+			synchronized (writeLock) {
+				segment = active;
+			}
+			
+			long started = System.nanoTime();
+			try {
+				segment.force();
+			} catch (Exception e) {
+				log.error("❌ WAL fsync 실패 - {}", segment.getPath(), e);
+				rollback(e);
+				if (!running) {
+					break;
+				}
+				LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+				continue;
+			}
+			fsyncTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+			markDurable(target);
+		}
+	}
+	
+	// target 까지 fsync 완료 → append 완료 신호 + replay 깨우기 (sync 스레드)
+	private void markDurable(long target) {
+		durableSeq = target;
+		int completed = 0;
+		PendingSync pending;
+		while ((pending = pendingSyncs.peek()) != null && pending.seq <= target) {
+			pendingSyncs.poll();
+			pending.sink.success(pending.seq);
+			completed++;
+		}
+		groupSize.record(completed);
+		
+		synchronized (durableListeners) {
+			for (Runnable listener : durableListeners) {
+				listener.run();
+			}
+		}
+	}
+	
+	/**
+	 * fsync 실패 → active segment 의 미반영 레코드를 버리고 seq 되돌림 (sync 스레드)
+	 * - 클라이언트에 실패로 응답한 레코드가 나중에 replay 되지 않도록 mmap 에서도 제거
+	 * - 이전 segment 는 roll() 에서 fsync 완료 → active 이전 레코드까지는 정상 완료
+	 */
+	private void rollback(Exception error) {
+		int failed = 0;
+		long durable;
+		synchronized (writeLock) {
+			durable = Math.max(durableSeq, active.getBaseSeq() - 1);
+			active.truncate(durable + 1);
+			nextSeq = durable + 1;
+			writtenSeq = durable;
+			
+			if (durable > durableSeq) {
+				markDurable(durable);
+			}
+			// lock 안에서 비움 → 버린 seq 를 재사용하는 새 append 와 섞이지 않음
+			PendingSync pending;
+			while ((pending = pendingSyncs.poll()) != null) {
+				pending.sink.error(error);
+				failed++;
+			}
+		}
+		rolledBackCounter.increment(failed);
+		log.warn("❗ WAL fsync 실패 rollback - seq {} 이후 {} 건 버림", durable, failed);
+	}
+	
+	private void checkpoint() {
+		long acked = ackedSeq;
+		if (acked <= checkpointedSeq) {
+			return;
+		}
+		
+		try {
+			writeCheckpoint(acked);
+			checkpointedSeq = acked;
+		} catch (IOException e) {
+			log.warn("❗ WAL checkpoint 기록 실패: {}", e.toString());
+			return;
+		}
+		
+		// 마지막 seq 까지 모두 ack 된 segment 삭제 (active 제외)
+		for (Map.Entry<Long, WalSegment> entry : segments.entrySet()) {
+			Map.Entry<Long, WalSegment> next = segments.higherEntry(entry.getKey());
+			if (next == null || next.getKey() - 1 > acked) {
+				break;
+			}
+			WalSegment segment = entry.getValue();
+			segments.remove(entry.getKey());
+			try {
+				segment.close();
+				Files.deleteIfExists(segment.getPath());
+				log.debug("📒 WAL segment 삭제 - baseSeq: {}", segment.getBaseSeq());
+			} catch (IOException e) {
+				log.warn("❗ WAL segment 삭제 실패 - {}: {}", segment.getPath(), e.toString());
+			}
+		}
+	}
+	
+	private long readCheckpoint() throws IOException {
+		Path file = directory.resolve(CHECKPOINT_FILE);
+		if (!Files.exists(file)) {
+			return 0;
+		}
+		byte[] bytes = Files.readAllBytes(file);
+		return bytes.length >= Long.BYTES ? ByteBuffer.wrap(bytes).getLong() : 0;
+	}
+	
+	// 임시 파일 fsync 후 rename → 기록 중 종료되어도 이전 checkpoint 유지
+	private void writeCheckpoint(long seq) throws IOException {
+		Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, seq));
+			channel.force(true);
+		}
+		Files.move(temp, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+	
+	private record PendingSync(long seq, MonoSink<Long> sink) {
+	}
+	
+	/**
+	 * fsync 완료된 레코드만 순서대로 읽는 cursor (단일 스레드 사용)
+	 */
+	public final class Cursor {
+		
+		private long nextSeq;
+		private WalSegment segment;
+		private int position;
+		
+		private Cursor(long afterSeq) {
+			this.nextSeq = afterSeq + 1;
+		}
+		
+		public boolean hasNext() {
+			return nextSeq <= durableSeq;
+		}
+		
+		/**
+		 * 다음 레코드 (아직 fsync 되지 않았으면 null)
+		 */
+		public WalRecord next() {
+			if (nextSeq > durableSeq) {
+				return null;
+			}
+			
+			if (segment == null || segment.lengthAt(position) == 0 || segment.seqAt(position) != nextSeq) {
+				// 처음 / segment 끝 → nextSeq 가 들어 있는 segment 처음부터 탐색
+				Map.Entry<Long, WalSegment> entry = segments.floorEntry(nextSeq);
+				if (entry == null) {
+					return null;
+				}
+				segment = entry.getValue();
+				position = 0;
+				int length;
+				while ((length = segment.lengthAt(position)) > 0 && segment.seqAt(position) < nextSeq) {
+					position += length;
+				}
+				if (length == 0 || segment.seqAt(position) != nextSeq) {
+					return null;
+				}
+			}
+			
+			WalRecord record = segment.read(position);
+			position += segment.lengthAt(position);
+			nextSeq++;
+			return record;
+		}
+	}
+	
+	/**
+	 * 미전송 segment 합계가 max-size 에 도달한 경우 (Kafka 장애가 길어짐)
+	 */
+	public static class WalFullException extends RuntimeException {
+		public WalFullException(long maxSize) {
+			super("WAL 용량 초과 (maxSize=" + maxSize + ")");
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package kr.co.dataric.chatapi.wal;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.wal")
+public class WalProperties {
+	private boolean enabled = true;                                  // false 면 Kafka ack 를 수락 기준으로 사용
+	private String directory = "./data/wal";
+	private DataSize segmentSize = DataSize.ofMegabytes(64);         // segment 파일 1개 mmap 크기
+	private DataSize maxSize = DataSize.ofGigabytes(1);              // 미전송 segment 합계 상한 (초과 시 수신 거부)
+	private Duration groupCommitDelay = Duration.ofMillis(1);        // fsync 전 추가 append 를 모으는 시간 (0 이면 즉시)
+	private Duration checkpointInterval = Duration.ofSeconds(1);     // Kafka ack 된 위치 기록 + 지난 segment 삭제 주기
+	private int replayBatchSize = 512;                               // 한 번에 읽어 Kafka 로 보내는 레코드 수
+	private int replayConcurrency = 256;                             // ack 대기 레코드 수 (같은 key 는 한 번에 1건, ack 순서는 flatMapSequential)
+	private Duration replayRetryBackoff = Duration.ofSeconds(1);     // Kafka 전송 실패 시 checkpoint 부터 재시도 간격
+}
@@ -0,0 +1,7 @@
+package kr.co.dataric.chatapi.wal;
+
+/**
+ * WAL 레코드 1건 (seq 는 노드 내 append 순서, key 는 Kafka record key)
+ */
+public record WalRecord(long seq, String key, byte[] payload) {
+}
@@ -0,0 +1,144 @@
+package kr.co.dataric.chatapi.wal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.co.dataric.chatapi.kafka.producer.KafkaChatProducer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * WAL → Kafka(chat.room.send) 순차 전송
+ * - fsync 될 때마다 깨어나 checkpoint 이후 레코드를 batch 로 읽어 전송
+ * - flatMapSequential → ack 를 seq 순서로 받아 연속 구간만 acknowledge
+ * - 같은 key(방) 레코드는 앞 레코드 ack 후에만 전송 → 실패 / 재전송이 있어도 방 안 순서 유지
+ * - 첫 실패에서 batch 중단 (아직 보내지 않은 레코드는 전송하지 않음)
+ * - 전송 실패 시 checkpoint 위치부터 backoff 후 재전송 (at-least-once, 소비 측은 msgId 로 중복 제거)
+ * - 시작 시 이전 실행에서 ack 받지 못한 레코드부터 이어서 전송
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.wal", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class WalReplayer {
+	
+	private final ChatWal chatWal;
+	private final KafkaChatProducer kafkaChatProducer;
+	private final WalProperties walProperties;
+	private final MeterRegistry meterRegistry;
+	
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private volatile boolean started;
+	private volatile boolean stopped;
+	private volatile Disposable retry;
+	
+	private ChatWal.Cursor cursor;
+	private Counter sentCounter;
+	private Counter failureCounter;
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		sentCounter = Counter.builder("chat.wal.replay.sent").register(meterRegistry);
+		failureCounter = Counter.builder("chat.wal.replay.failures").register(meterRegistry);
+		
+		cursor = chatWal.cursor(chatWal.getAckedSeq());
+		long backlog = chatWal.getDurableSeq() - chatWal.getAckedSeq();
+		if (backlog > 0) {
+			log.info("📒 WAL 미전송 레코드 재전송 시작 - from: {}, count: {}", chatWal.getAckedSeq() + 1, backlog);
+		}
+		
+		started = true;
+		chatWal.addDurableListener(this::kick);
+		kick();
+	}
+	
+	@PreDestroy
+	public void stop() {
+		stopped = true;
+		if (retry != null) {
+			retry.dispose();
+		}
+	}
+	
+	// fsync 스레드에서도 호출 → 실제 drain 은 다른 스레드에서
+	private void kick() {
+		if (started && !stopped && draining.compareAndSet(false, true)) {
+			Schedulers.boundedElastic().schedule(this::drain);
+		}
+	}
+	
+	private void drain() {
+		List<WalRecord> batch = new ArrayList<>(walProperties.getReplayBatchSize());
+		WalRecord record;
+		while (batch.size() < walProperties.getReplayBatchSize() && (record = cursor.next()) != null) {
+			batch.add(record);
+		}
+		
+		if (batch.isEmpty()) {
+			draining.set(false);
+			// flag 해제 전에 fsync 된 레코드 재확인
+			if (cursor.hasNext()) {
+				kick();
+			}
+			return;
+		}
+		
+		// key 별 직전 전송 → 다음 레코드는 그 뒤에 연결 (실패하면 같은 key 의 뒤 레코드도 전송 안 함)
+		Map<String, Mono<Void>> lastByKey = new HashMap<>();
+		AtomicBoolean halted = new AtomicBoolean();
+		
+		Flux.fromIterable(batch)
+			.map(wal -> {
+				Mono<Void> send = lastByKey.getOrDefault(wal.key(), Mono.empty())
+					.then(Mono.defer(() -> halted.get()
+						? Mono.<Void>error(new IllegalStateException("WAL 재전송 중단 - seq: " + wal.seq()))
+						: kafkaChatProducer.sendMessage(wal.key(), wal.payload())))
+					.doOnError(error -> halted.set(true))
+					.cache();
+				lastByKey.put(wal.key(), send);
+				return send.thenReturn(wal.seq());
+			})
+			.flatMapSequential(sent -> sent, walProperties.getReplayConcurrency())
+			.doOnNext(seq -> {
+				chatWal.acknowledge(seq);
+				sentCounter.increment();
+			})
+			.then()
+			.subscribe(
+				done -> { },
+				error -> onFailure(error),
+				() -> {
+					draining.set(false);
+					kick();
+				});
+	}
+	
+	// 실패 지점(checkpoint) 부터 다시 읽도록 cursor 재생성 후 backoff
+	private void onFailure(Throwable error) {
+		failureCounter.increment();
+		log.warn("❗ WAL → Kafka 전송 실패, {} 후 seq {} 부터 재시도: {}",
+			walProperties.getReplayRetryBackoff(), chatWal.getAckedSeq() + 1, error.toString());
+		
+		cursor = chatWal.cursor(chatWal.getAckedSeq());
+		retry = Schedulers.parallel().schedule(() -> {
+			retry = null;
+			draining.set(false);
+			kick();
+		}, walProperties.getReplayRetryBackoff().toMillis(), TimeUnit.MILLISECONDS);
+	}
+}
@@ -0,0 +1,197 @@
+package kr.co.dataric.chatapi.wal;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * 고정 크기 mmap segment 파일 ({baseSeq 20자리}.wal)
+ * - 레코드: [int length][int crc32c][long seq][short keyLength][key][payload]
+ * - length 는 나머지를 모두 쓴 뒤 마지막에 기록 → length 0 이 끝 표시
+ * - crc / seq 연속성이 깨진 지점부터는 (비정상 종료 중 쓰던 레코드) 버림
+ */
+final class WalSegment implements Closeable {
+	
+	static final String SUFFIX = ".wal";
+	private static final int HEADER = Integer.BYTES + Integer.BYTES + Long.BYTES + Short.BYTES;
+	
+	@Getter
+	private final Path path;
+	@Getter
+	private final long baseSeq;
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	
+	// writer 전용 (ChatWal lock 안에서만 변경)
+	private int writePosition;
+	@Getter
+	private long lastSeq;
+	
+	private WalSegment(Path path, long baseSeq, int size) throws IOException {
+		this.path = path;
+		this.baseSeq = baseSeq;
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		this.lastSeq = baseSeq - 1;
+	}
+	
+	static WalSegment create(Path directory, long baseSeq, int size) throws IOException {
+		return new WalSegment(directory.resolve(String.format("%020d%s", baseSeq, SUFFIX)), baseSeq, size);
+	}
+	
+	/**
+	 * ✅ 기존 segment 열기 - 유효한 마지막 레코드 뒤로 쓰기 위치 복구, 이후 영역은 0 으로 정리
+	 */
+	static WalSegment open(Path path, int size) throws IOException {
+		String name = path.getFileName().toString();
+		long baseSeq = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+		WalSegment segment = new WalSegment(path, baseSeq, Math.max(size, (int) Files.size(path)));
+		
+		int position = 0;
+		long expected = baseSeq;
+		while (true) {
+			int length = segment.validLength(position, expected);
+			if (length < 0) {
+				break;
+			}
+			position += length;
+			expected++;
+		}
+		segment.writePosition = position;
+		segment.lastSeq = expected - 1;
+		segment.zeroFrom(position);
+		return segment;
+	}
+	
+	boolean hasRoom(int keyLength, int payloadLength) {
+		return writePosition + HEADER + keyLength + payloadLength + Integer.BYTES <= buffer.capacity();
+	}
+	
+	boolean isEmpty() {
+		return writePosition == 0;
+	}
+	
+	int capacity() {
+		return buffer.capacity();
+	}
+	
+	static int recordSize(byte[] key, byte[] payload) {
+		return HEADER + key.length + payload.length;
+	}
+	
+	/**
+	 * ✅ 레코드 기록 (호출자가 hasRoom 확인 및 seq 순서 보장)
+	 */
+	void append(long seq, byte[] key, byte[] payload) {
+		int position = writePosition;
+		CRC32C crc = new CRC32C();
+		crc.update(key);
+		crc.update(payload);
+		
+		buffer.putInt(position + 4, (int) crc.getValue());
+		buffer.putLong(position + 8, seq);
+		buffer.putShort(position + 16, (short) key.length);
+		buffer.put(position + HEADER, key);
+		buffer.put(position + HEADER + key.length, payload);
+		buffer.putInt(position, HEADER + key.length + payload.length);
+		
+		writePosition = position + HEADER + key.length + payload.length;
+		lastSeq = seq;
+	}
+	
+	void force() {
+		buffer.force();
+	}
+	
+	/**
+	 * ✅ fromSeq 이후 레코드 버림 (fsync 실패 rollback, 호출자는 ChatWal lock 안 / fromSeq >= baseSeq)
+	 * - 다음 fsync 에 0 으로 정리된 영역이 함께 반영
+	 */
+	void truncate(long fromSeq) {
+		int position = 0;
+		int length;
+		while ((length = lengthAt(position)) > 0 && seqAt(position) < fromSeq) {
+			position += length;
+		}
+		zero(position, writePosition);
+		writePosition = position;
+		lastSeq = fromSeq - 1;
+	}
+	
+	/**
+	 * position 의 레코드 읽기 (끝이면 null)
+	 * - 호출자는 해당 seq 가 fsync 완료된 것을 확인한 뒤 호출
+	 */
+	WalRecord read(int position) {
+		int length = lengthAt(position);
+		if (length == 0) {
+			return null;
+		}
+		
+		long seq = buffer.getLong(position + 8);
+		int keyLength = buffer.getShort(position + 16);
+		byte[] key = new byte[keyLength];
+		byte[] payload = new byte[length - HEADER - keyLength];
+		buffer.get(position + HEADER, key);
+		buffer.get(position + HEADER + keyLength, payload);
+		return new WalRecord(seq, new String(key, StandardCharsets.UTF_8), payload);
+	}
+	
+	// position 의 레코드 전체 길이 (끝이면 0)
+	int lengthAt(int position) {
+		return position + HEADER > buffer.capacity() ? 0 : Math.max(buffer.getInt(position), 0);
+	}
+	
+	long seqAt(int position) {
+		return buffer.getLong(position + 8);
+	}
+	
+	// 레코드 길이 (유효하지 않으면 -1)
+	private int validLength(int position, long expectedSeq) {
+		if (position + HEADER > buffer.capacity()) {
+			return -1;
+		}
+		int length = buffer.getInt(position);
+		if (length < HEADER || position + length > buffer.capacity()) {
+			return -1;
+		}
+		if (buffer.getLong(position + 8) != expectedSeq) {
+			return -1;
+		}
+		int keyLength = buffer.getShort(position + 16);
+		if (keyLength < 0 || HEADER + keyLength > length) {
+			return -1;
+		}
+		
+		CRC32C crc = new CRC32C();
+		ByteBuffer body = buffer.slice(position + HEADER, length - HEADER);
+		crc.update(body);
+		return (int) crc.getValue() == buffer.getInt(position + 4) ? length : -1;
+	}
+	
+	private void zeroFrom(int position) {
+		zero(position, buffer.capacity());
+		buffer.force();
+	}
+	
+	private void zero(int from, int to) {
+		byte[] zeros = new byte[8192];
+		for (int i = from; i < to; i += zeros.length) {
+			buffer.put(i, zeros, 0, Math.min(zeros.length, to - i));
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
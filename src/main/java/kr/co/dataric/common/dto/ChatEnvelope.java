@@ -0,0 +1,47 @@
+package kr.co.dataric.common.dto;
+
+/**
+ * 채팅 메시지 1건의 불변 envelope
+ * - 수신 시 1번 만들고 로컬 fan-out / Kafka(chat.room.send) / 방 갱신 이벤트가 모두 공유
+ * - json : ChatMessageDTO 정본 인코딩 (WebSocket JSON 프레임 = Kafka 레코드 값, 재직렬화 없음)
+ * - message 는 envelope 생성 후 변경하지 않음 (participants 는 불변 List)
+ */
+public final class ChatEnvelope {
+	
+	private final ChatMessageDTO message;
+	private final byte[] json;
+	
+	private ChatEnvelope(ChatMessageDTO message, byte[] json) {
+		this.message = message;
+		this.json = json;
+	}
+	
+	public static ChatEnvelope of(ChatMessageDTO message, byte[] json) {
+		return new ChatEnvelope(message, json);
+	}
+	
+	public ChatMessageDTO getMessage() {
+		return message;
+	}
+	
+	public String getRoomId() {
+		return message.getRoomId();
+	}
+	
+	public byte[] getJson() {
+		return json;
+	}
+	
+	/**
+	 * chat.room.redis.update 용 방 마지막 메시지 정보 (같은 필드 / 참여자 List 공유)
+	 */
+	public ChatRoomRedisDto toRoomUpdate() {
+		return ChatRoomRedisDto.builder()
+			.roomId(message.getRoomId())
+			.lastMessage(message.getMessage())
+			.lastSender(message.getSender())
+			.lastMessageTime(message.getTimestamp())
+			.participants(message.getParticipants())
+			.build();
+	}
+}
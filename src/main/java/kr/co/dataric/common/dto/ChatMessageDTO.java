@@ -1,6 +1,8 @@
 package kr.co.dataric.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.co.dataric.common.entity.ChatMessage;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,4 +24,28 @@ public class ChatMessageDTO {
 	private String message;           // 메시지 본문
 	private LocalDateTime timestamp;  // 보낸 시각
 	private List<String> participants; // 참여자 목록
+	
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long seq;                  // 방 단위 순번 (서버 부여, 기존 메시지는 없음)
+	
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Integer unreadCount;       // 안 읽은 인원 수 (히스토리 / 입장 replay 시에만)
+	
+	public static ChatMessageDTO from(ChatMessage entity) {
+		return ChatMessageDTO.builder()
+			.id(entity.getMsgId())
+			.roomId(entity.getRoomId())
+			.sender(entity.getSender())
+			.message(entity.getMessage())
+			.timestamp(entity.getTimestamp())
+			.seq(entity.getSeq())
+			.build();
+	}
+	
+	/**
+	 * unreadCount 만 바꾼 사본 (캐시에 공유된 DTO 는 변경하지 않음)
+	 */
+	public ChatMessageDTO withUnreadCount(int unreadCount) {
+		return new ChatMessageDTO(id, roomId, sender, message, timestamp, participants, seq, unreadCount);
+	}
 }
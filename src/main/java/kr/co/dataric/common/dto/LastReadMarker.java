@@ -0,0 +1,140 @@
+package kr.co.dataric.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * 유저별 마지막 읽은 메시지 위치
+ * - Redis 저장값 : "epochMillis(36진수)|seq(36진수, 없으면 0)|msgId" (compact, 길이가 정해지지 않은 msgId 는 마지막)
+ * - 기존 값      : "msgId_yyyy-MM-ddTHH:mm:ss.SSS" (legacy, 읽기만 지원)
+ * - 비교는 양쪽 모두 seq 가 있으면 seq, 아니면 timestamp → msgId
+ */
+@Getter
+@AllArgsConstructor
+public class LastReadMarker {
+	
+	private static final char COMPACT_SEPARATOR = '|';
+	public static final long NO_SEQ = 0;
+	
+	private final String msgId;
+	private final LocalDateTime timestamp;
+	private final long seq;
+	
+	public LastReadMarker(String msgId, LocalDateTime timestamp) {
+		this(msgId, timestamp, NO_SEQ);
+	}
+	
+	public LastReadMarker(String msgId, LocalDateTime timestamp, Long seq) {
+		this(msgId, timestamp, seq != null ? seq : NO_SEQ);
+	}
+	
+	public static LastReadMarker of(String msgId, String timestamp) {
+		return of(msgId, timestamp, null);
+	}
+	
+	/**
+	 * 발행 payload (msgId, timestamp, seq 문자열) 에서 복원 (seq 는 선택)
+	 */
+	public static LastReadMarker of(String msgId, String timestamp, String seq) {
+		if (msgId == null || timestamp == null) {
+			return null;
+		}
+		try {
+			return new LastReadMarker(msgId, LocalDateTime.parse(timestamp), seq != null ? Long.parseLong(seq) : NO_SEQ);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * ✅ compact / legacy 형식 모두 복원 (형식 오류 시 null)
+	 */
+	public static LastReadMarker decode(String value) {
+		if (value == null || value.isEmpty()) {
+			return null;
+		}
+		
+		// 앞의 두 항목은 36진수 → 클라이언트가 보낸 msgId 에 '|' 가 있어도 처음 두 구분자로만 분리
+		int millisEnd = value.indexOf(COMPACT_SEPARATOR);
+		int seqEnd = millisEnd > 0 ? value.indexOf(COMPACT_SEPARATOR, millisEnd + 1) : -1;
+		if (seqEnd > millisEnd + 1 && seqEnd < value.length() - 1) {
+			try {
+				long millis = Long.parseUnsignedLong(value.substring(0, millisEnd), 36);
+				long seq = Long.parseUnsignedLong(value.substring(millisEnd + 1, seqEnd), 36);
+				LocalDateTime timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+				return new LastReadMarker(value.substring(seqEnd + 1), timestamp, seq);
+			} catch (NumberFormatException e) {
+				// compact 형식이 아님 → legacy 로 시도
+			}
+		}
+		
+		String[] parts = value.split("_", 2);
+		return parts.length == 2 ? of(parts[0], parts[1]) : null;
+	}
+	
+	public boolean hasSeq() {
+		return seq > NO_SEQ;
+	}
+	
+	public String encode() {
+		return Long.toString(epochMillis(), 36) + COMPACT_SEPARATOR + Long.toString(seq, 36) + COMPACT_SEPARATOR + msgId;
+	}
+	
+	/**
+	 * compact 형식의 시각 (UTC epoch millis, Redis 스크립트 비교 기준)
+	 */
+	public long epochMillis() {
+		return timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+	}
+	
+	/**
+	 * 화면 / Mongo 에서 사용하던 "msgId_timestamp" 형식
+	 */
+	public String toLegacyValue() {
+		return msgId + "_" + formattedTimestamp();
+	}
+	
+	/**
+	 * readList 항목 형식 (userId, msgId, timestamp, seq)
+	 */
+	public Map<String, String> toReadEntry(String userId) {
+		if (!hasSeq()) {
+			return Map.of(
+				"userId", userId,
+				"msgId", msgId,
+				"timestamp", formattedTimestamp()
+			);
+		}
+		return Map.of(
+			"userId", userId,
+			"msgId", msgId,
+			"timestamp", formattedTimestamp(),
+			"seq", Long.toString(seq)
+		);
+	}
+	
+	/**
+	 * 양쪽 모두 seq 가 있으면 seq, 아니면 timestamp 우선 / 같으면 msgId 로 비교
+	 */
+	public boolean isAfter(LastReadMarker other) {
+		if (other == null) {
+			return true;
+		}
+		if (hasSeq() && other.hasSeq()) {
+			return seq > other.seq;
+		}
+		int cmp = timestamp.compareTo(other.timestamp);
+		return cmp > 0 || (cmp == 0 && msgId.compareTo(other.msgId) > 0);
+	}
+	
+	// Jackson LocalDateTime 직렬화와 동일한 형식 (클라이언트 문자열 비교 기준)
+	private String formattedTimestamp() {
+		return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp);
+	}
+}
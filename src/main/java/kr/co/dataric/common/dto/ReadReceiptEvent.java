@@ -20,6 +20,7 @@ public class ReadReceiptEvent {
 	private String roomId;
 	
 	private LocalDateTime timestamp;
+	private Long seq;                  // 읽은 메시지 순번 (없으면 timestamp 비교)
 	
 	private String lastRead;
 	private String status;
@@ -26,6 +26,7 @@ public class ChatMessage {
 	private String sender;
 	private String message;
 	private LocalDateTime timestamp;
+	private Long seq;                 // 방 단위 순번 (seq 도입 전 메시지는 null)
 	private boolean edited;
 	private boolean deleted;
 	
@@ -13,4 +13,5 @@ public class JwtProperties {
 	private String secret;
 	private long accessTokenExpiration;     // milliseconds
 	private long refreshTokenExpiration;    // milliseconds
+	private int claimsCacheSize = 10000;    // 검증 완료 토큰 캐시 최대 개수
 }
@@ -0,0 +1,18 @@
+package kr.co.dataric.common.jwt.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 토큰의 subject + 만료 시각
+ */
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+	private final String subject;
+	private final long expiresAtMillis;
+	
+	public boolean isExpired() {
+		return expiresAtMillis <= System.currentTimeMillis();
+	}
+}
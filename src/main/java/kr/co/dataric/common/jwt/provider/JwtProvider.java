@@ -2,12 +2,15 @@ package kr.co.dataric.common.jwt.provider;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import kr.co.dataric.common.redis.service.RedisService;
 import kr.co.dataric.common.jwt.entity.JwtProperties;
+import kr.co.dataric.common.jwt.entity.TokenClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,8 +18,13 @@ import reactor.core.publisher.Mono;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
@@ -27,10 +35,15 @@ public class JwtProvider {
 	private final JwtProperties jwtProperties;
 	
 	private SecretKey key;
+	private JwtParser parser;
+	
+	// ✅ 검증 완료 토큰 캐시 (SHA-256 digest -> claims), 토큰 만료 시 제거
+	private final Map<String, TokenClaims> claimsCache = new ConcurrentHashMap<>();
 	
 	@PostConstruct
 	public void init() {
 		this.key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+		this.parser = Jwts.parser().verifyWith(key).build();
 	}
 	
 	public String createAccessToken(String username) {
@@ -76,31 +89,51 @@ public class JwtProvider {
 			}).block();
 	}
 	
-	public String extractUserId(String token) {
+	/**
+	 * ✅ 토큰 1회 검증 후 subject + 만료 시각 반환
+	 * - 서명이 유효하면 만료된 토큰도 claims 반환 (isExpired 로 구분)
+	 * - 서명 불일치 / 형식 오류 시 null
+	 * - 유효 토큰은 digest 기준 캐시 → 재요청은 해시 조회만 수행
+	 */
+	public TokenClaims parse(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		
+		String digest = digest(token);
+		TokenClaims cached = claimsCache.get(digest);
+		if (cached != null) {
+			if (!cached.isExpired()) {
+				return cached;
+			}
+			claimsCache.remove(digest, cached);
+			return cached;
+		}
+		
 		try {
-			Claims claims = (Claims) Jwts.parser()
-				.verifyWith(key)
-				.build()
-				.parse(token)
-				.getPayload();
-			return claims.getSubject();
-		} catch (JwtException e) {
+			Claims claims = parser.parseSignedClaims(token).getPayload();
+			TokenClaims verified = toTokenClaims(claims);
+			if (!verified.isExpired()) {
+				cache(digest, verified);
+			}
+			return verified;
+		} catch (ExpiredJwtException e) {
+			// 서명 검증 이후 만료 검사에서 실패 → claims 는 신뢰 가능
+			return toTokenClaims(e.getClaims());
+		} catch (JwtException | IllegalArgumentException e) {
 			log.error("JWT 검증 실패: {}", e.getMessage());
 			return null;
 		}
 	}
 	
+	public String extractUserId(String token) {
+		TokenClaims claims = parse(token);
+		return claims != null && !claims.isExpired() ? claims.getSubject() : null;
+	}
+	
 	public boolean isTokenExpired(String token) {
-		try {
-			Claims claims = (Claims) Jwts.parser()
-				.verifyWith(key)
-				.build()
-				.parse(token)
-				.getPayload();
-			return claims.getExpiration().before(new Date());
-		} catch (JwtException e) {
-			return true;
-		}
+		TokenClaims claims = parse(token);
+		return claims == null || claims.isExpired();
 	}
 	
 	public static String extractUserIdFromTokenWithoutValidation(String token) {
@@ -118,20 +151,46 @@ public class JwtProvider {
 	}
 	
 	public String extractUserIdIgnoreExpiration(String token) {
-		try {
-			Claims claims = (Claims) Jwts.parser()
-				.verifyWith(key)
-				.build()
-				.parse(token)
-				.getPayload();
-			return claims.getSubject();
-		} catch (Exception e) {
-			log.warn("JWT 디코딩 실패: {}", e.getMessage());
-			return null;
-		}
+		TokenClaims claims = parse(token);
+		return claims != null ? claims.getSubject() : null;
 	}
 	
 	public boolean validate(String token) {
 		return extractUserId(token) != null;
 	}
+	
+	private TokenClaims toTokenClaims(Claims claims) {
+		Date expiration = claims.getExpiration();
+		return new TokenClaims(claims.getSubject(), expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+	}
+	
+	/**
+	 * 캐시 한도 초과 시 만료 토큰부터 정리, 그래도 가득 차면 일부 제거 후 적재
+	 */
+	private void cache(String digest, TokenClaims claims) {
+		int maxSize = jwtProperties.getClaimsCacheSize();
+		if (maxSize <= 0) {
+			return;
+		}
+		
+		if (claimsCache.size() >= maxSize) {
+			claimsCache.values().removeIf(TokenClaims::isExpired);
+			Iterator<String> it = claimsCache.keySet().iterator();
+			int toRemove = claimsCache.size() - maxSize + Math.max(1, maxSize / 10);
+			while (toRemove-- > 0 && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		}
+		claimsCache.put(digest, claims);
+	}
+	
+	private static String digest(String token) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 미지원 JVM", e);
+		}
+	}
 }
@@ -0,0 +1,76 @@
+package kr.co.dataric.common.redis.script;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 서버 측 Lua 스크립트 목록 (classpath:redis/scripts/{name}.lua)
+ * - 공용 함수 파일 (last_read_lib.lua) 을 앞에 붙여 하나의 스크립트로 적재 → 비교 로직은 한 곳에만
+ * - 기동 시 SCRIPT LOAD 로 미리 적재
+ * - 실행은 EVALSHA, Redis 재시작 등으로 NOSCRIPT 가 나면 EVAL 로 재적재 (ReactiveRedisTemplate 기본 동작)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisScriptRegistry {
+	
+	public static final String LAST_READ_UPDATE = "last_read_update";
+	public static final String PRESENCE_UPDATE = "presence_update";
+	
+	private static final String LAST_READ_LIB = "last_read_lib";
+	
+	private static final Map<String, RedisScript<Long>> SCRIPTS = List.of(LAST_READ_UPDATE, PRESENCE_UPDATE).stream()
+		.collect(Collectors.toUnmodifiableMap(Function.identity(),
+			name -> RedisScript.of(source(LAST_READ_LIB) + "\n" + source(name), Long.class)));
+	
+	private final ReactiveStringRedisTemplate redisTemplate;
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void preload() {
+		Flux.fromIterable(SCRIPTS.entrySet())
+			.flatMap(entry -> redisTemplate.execute(connection -> connection.scriptingCommands()
+					.scriptLoad(ByteBuffer.wrap(entry.getValue().getScriptAsString().getBytes(StandardCharsets.UTF_8))))
+				.doOnNext(sha -> log.info("📜 Redis 스크립트 적재 - {}: {}", entry.getKey(), sha)))
+			.onErrorResume(e -> {
+				log.warn("❗ Redis 스크립트 사전 적재 실패 (첫 실행 시 적재): {}", e.toString());
+				return Flux.empty();
+			})
+			.subscribe();
+	}
+	
+	/**
+	 * ✅ 스크립트 실행 (EVALSHA → NOSCRIPT 시 EVAL)
+	 */
+	public Mono<Long> execute(String name, List<String> keys, List<String> args) {
+		RedisScript<Long> script = SCRIPTS.get(name);
+		if (script == null) {
+			return Mono.error(new IllegalArgumentException("등록되지 않은 Redis 스크립트: " + name));
+		}
+		return redisTemplate.execute(script, keys, args).next();
+	}
+	
+	private static String source(String name) {
+		try {
+			return new ClassPathResource("redis/scripts/" + name + ".lua").getContentAsString(StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
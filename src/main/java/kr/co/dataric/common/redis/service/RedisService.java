@@ -14,6 +14,8 @@ import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -86,9 +88,21 @@ public class RedisService {
 	}
 	
 	// ✅ Kafka 읽음 처리용: 읽음 사용자 저장 + TTL (10분)
-	public void addToSet(String key, String userId) {
-		redisTemplate.opsForSet().add(key, userId);
-		redisTemplate.expire(key, Duration.ofMinutes(10));
+	public Mono<Boolean> addToSet(String key, String userId) {
+		return redisTemplate.opsForSet().add(key, userId)
+			.then(redisTemplate.expire(key, Duration.ofMinutes(10)));
+	}
+	
+	/**
+	 * ✅ 여러 명령을 응답 대기 없이 연속 전송 (pipeline)
+	 * - 공유 connection 에 명령을 모두 먼저 쓰고 응답은 순서대로 수집 (왕복 N회 → 1회 수준)
+	 * - 결과는 명령 순서와 동일, 값이 없는 명령은 Optional.empty()
+	 */
+	public Mono<List<Optional<Object>>> pipeline(List<? extends Mono<?>> commands) {
+		return Flux.fromIterable(commands)
+			.flatMapSequential(command -> command.<Optional<Object>>map(Optional::of)
+				.defaultIfEmpty(Optional.empty()), Math.max(commands.size(), 1))
+			.collectList();
 	}
 	
 	// ✅ 읽은 사용자 목록 조회
@@ -0,0 +1,37 @@
+-- 읽음 위치 갱신 공용 함수 (RedisScriptRegistry 가 last_read_update / presence_update 앞에 붙여 적재)
+-- key : last_read:{roomId}
+-- args[offset + 1..9] : userId, 저장값(base36 millis|base36 seq|msgId), epochMillis, msgId, hash TTL(초), roomId,
+--                       chatReadUpdate:{roomId} payload, 읽음 이벤트 여부(1: 발행, 0: 저장만 - 기존 키 이관), seq (0: 없음)
+-- 비교 : 기존 값과 양쪽 모두 seq 가 있으면 seq, 아니면 epochMillis → msgId (LastReadMarker.isAfter 와 같은 규칙)
+-- 반환 : 1 갱신 / 0 기존 값이 같거나 더 최신
+local function update_last_read(key, args, offset)
+	local userId = args[offset + 1]
+	local current = redis.call('HGET', key, userId)
+	if current then
+		-- msgId 는 마지막 항목 → 앞의 두 구분자로만 분리 (msgId 안의 '|' 무시)
+		local currentEpoch, currentSeq, currentMsgId = string.match(current, '^(%w+)|(%w+)|(.*)$')
+		if currentEpoch then
+			currentSeq = tonumber(currentSeq, 36)
+			local newSeq = tonumber(args[offset + 9])
+			if currentSeq > 0 and newSeq > 0 then
+				if newSeq <= currentSeq then
+					return 0
+				end
+			else
+				currentEpoch = tonumber(currentEpoch, 36)
+				local newEpoch = tonumber(args[offset + 3])
+				if newEpoch < currentEpoch or (newEpoch == currentEpoch and args[offset + 4] <= currentMsgId) then
+					return 0
+				end
+			end
+		end
+	end
+	
+	redis.call('HSET', key, userId, args[offset + 2])
+	redis.call('EXPIRE', key, args[offset + 5])
+	
+	if args[offset + 8] == '1' then
+		redis.call('PUBLISH', 'chatReadUpdate:' .. args[offset + 6], args[offset + 7])
+	end
+	return 1
+end
@@ -0,0 +1,5 @@
+-- 읽음 위치 갱신 (더 최신일 때만) + 변경 알림
+-- KEYS[1] last_read:{roomId}
+-- ARGV[1..9] last_read_lib.lua update_last_read 인자
+-- 안 읽은 수 초기화(unread:{userId})는 다른 hash slot → 갱신된 경우 호출 측에서 이어서 처리
+return update_last_read(KEYS[1], ARGV, 0)
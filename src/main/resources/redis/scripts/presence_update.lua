@@ -0,0 +1,11 @@
+-- 온라인 상태 저장 + 상태 알림 + (선택) 읽음 위치 갱신을 한 번에 처리
+-- KEYS[1] online:{roomId}:{userId}  KEYS[2] last_read:{roomId}  (같은 {roomId} hash tag → 같은 slot)
+-- ARGV[1] roomId  ARGV[2] status  ARGV[3] online TTL(초)  ARGV[4] onlineUpdate:{roomId} payload
+-- ARGV[5..13] last_read_update.lua 의 ARGV[1..9] 와 동일 (없으면 읽음 위치 생략)
+redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+redis.call('PUBLISH', 'onlineUpdate:' .. ARGV[1], ARGV[4])
+
+if #ARGV < 13 then
+	return 0
+end
+return update_last_read(KEYS[2], ARGV, 4)